@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.transaction;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+
+/**
+ * <p>
+ * Receives the heuristic outcomes of transactions whose second phase is performed after the commit method has returned,
+ * see {@link TransactionManager#setAsynchronousCommit(boolean)}. Since the commit method can no longer throw
+ * {@link HeuristicMixedException} or {@link HeuristicRollbackException} for such a transaction, the transaction manager
+ * reports every heuristic decision made by a resource manager to the observer instead.
+ * </p>
+ *
+ * <p>
+ * The observer is invoked on a thread that is not associated with a transaction, before the
+ * {@link Synchronization#afterCompletion(int)} callbacks of the transaction.
+ * </p>
+ *
+ * @version Jakarta Transactions 2.1
+ * @since 2.1
+ */
+@FunctionalInterface
+public interface HeuristicOutcomeObserver {
+
+    /**
+     * Called by the transaction manager when a resource manager reports a heuristic decision for its branch of a committed
+     * transaction.
+     *
+     * @param transaction The transaction whose branch was completed heuristically.
+     *
+     * @param xaRes The resource whose resource manager made the heuristic decision.
+     *
+     * @param heuristic The exception that reported the decision. Its error code is one of XA_HEURHAZ, XA_HEURCOM,
+     * XA_HEURRB, or XA_HEURMIX.
+     */
+    void heuristicOutcome(Transaction transaction, XAResource xaRes, XAException heuristic);
+}
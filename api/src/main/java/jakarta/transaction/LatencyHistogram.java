@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.transaction;
+
+/**
+ * <p>
+ * A read-only view of a distribution of latencies, in nanoseconds, as reported by {@link TransactionStatistics}.
+ * </p>
+ *
+ * <p>
+ * The values returned by a {@code LatencyHistogram} obtained from {@code TransactionStatistics} do not change; the
+ * latencies recorded afterwards are reflected by the histograms obtained by later calls.
+ * </p>
+ *
+ * @version Jakarta Transactions 2.1
+ * @since 2.1
+ */
+public interface LatencyHistogram {
+
+    /**
+     * Obtain the number of latencies recorded.
+     *
+     * @return The number of latencies recorded.
+     */
+    long getCount();
+
+    /**
+     * Obtain the sum of the latencies recorded.
+     *
+     * @return The sum of the latencies recorded, in nanoseconds.
+     */
+    long getTotal();
+
+    /**
+     * Obtain the largest latency recorded.
+     *
+     * @return The largest latency recorded, in nanoseconds, or zero if no latency has been recorded.
+     */
+    long getMax();
+
+    /**
+     * Obtain the latency at or below which the given percentage of the recorded latencies lie.
+     *
+     * @param percentile The percentage, between 0 and 100.
+     *
+     * @return The latency in nanoseconds, or zero if no latency has been recorded.
+     *
+     * @exception IllegalArgumentException Thrown if the percentage is out of range.
+     */
+    long getValueAtPercentile(double percentile);
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.transaction;
+
+import jakarta.enterprise.context.NormalScope;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * The jakarta.transaction.NonPassivatingTransactionScoped annotation specifies a standard CDI scope that has the same
+ * lifecycle as the scope defined by {@link TransactionScoped}, but is not a passivating scope. Beans with this scope, and
+ * the beans they depend on, are therefore not required to be passivation capable, and may hold state that is not
+ * serializable, for example buffers or caches of prepared statements.
+ * </p>
+ * <p>
+ * The scope is active in the same transaction states as the scope defined by {@link TransactionScoped}, and its
+ * contextual instances are associated with the current active Jakarta Transactions transaction in the same way. The
+ * contextual instances of the two scopes are distinct from each other.
+ * </p>
+ *
+ * @version Jakarta Transactions 2.1
+ * @since 2.1
+ */
+@Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD, ElementType.FIELD })
+@NormalScope(passivating = false)
+public @interface NonPassivatingTransactionScoped {
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.transaction;
+
+import jakarta.transaction.xa.AsyncXAResource;
+import java.util.concurrent.CompletionStage;
+import javax.transaction.xa.XAResource;
+
+/**
+ * <p>
+ * The ReactiveTransactionManager interface allows an application server or framework to control transaction
+ * boundaries without binding the transaction to a thread.
+ * </p>
+ *
+ * <p>
+ * Unlike {@link TransactionManager}, the transaction context is not associated with the calling thread. Each method
+ * takes the {@link Transaction} it operates on as an argument, and returns a {@link CompletionStage} that completes
+ * when the operation has completed. A method that fails completes its stage exceptionally with the exception that the
+ * corresponding method of {@link Transaction} or {@link TransactionManager} would throw; it does not throw that
+ * exception to the caller. The methods of this interface must not block the calling thread while waiting for a
+ * resource manager.
+ * </p>
+ *
+ * <p>
+ * Operations on the same transaction take effect in the order in which they were invoked. The stage returned by
+ * {@link #commit(Transaction)} or {@link #rollback(Transaction)} completes only after the transaction has been
+ * completed by every enlisted resource and after every {@link Synchronization#afterCompletion(int)} callback has
+ * returned.
+ * </p>
+ *
+ * @version Jakarta Transactions 2.1
+ * @since 2.1
+ */
+public interface ReactiveTransactionManager {
+
+    /**
+     * Create a new transaction with the default timeout. The transaction is not associated with the calling thread.
+     *
+     * @return A stage that completes with the new transaction. The stage completes exceptionally with
+     * {@link SystemException} if the transaction manager encounters an unexpected error condition, or with
+     * {@link TransactionNotAdmittedException} if the transaction is not admitted by the {@link TransactionAdmissionControl}.
+     */
+    CompletionStage<Transaction> begin();
+
+    /**
+     * Create a new transaction with the default timeout and indicate if it is effectively read-only. The transaction is
+     * not associated with the calling thread. See {@link TransactionManager#begin(boolean)} for the meaning of
+     * {@code isReadOnly}.
+     *
+     * @param isReadOnly designates a transaction as read-only and requires a resolution of rollback.
+     *
+     * @return A stage that completes with the new transaction. The stage completes exceptionally with
+     * {@link SystemException} if the transaction manager encounters an unexpected error condition, or with
+     * {@link TransactionNotAdmittedException} if the transaction is not admitted by the {@link TransactionAdmissionControl}.
+     */
+    CompletionStage<Transaction> begin(boolean isReadOnly);
+
+    /**
+     * Create a new transaction with the given timeout and indicate if it is effectively read-only. The transaction is not
+     * associated with the calling thread. See {@link TransactionManager#begin(boolean)} for the meaning of
+     * {@code isReadOnly}.
+     *
+     * @param isReadOnly designates a transaction as read-only and requires a resolution of rollback.
+     *
+     * @param seconds The value of the timeout in seconds. If the value is zero, the default value is used.
+     *
+     * @return A stage that completes with the new transaction. The stage completes exceptionally with
+     * {@link SystemException} if the value of {@code seconds} is negative or the transaction manager encounters an
+     * unexpected error condition, or with {@link TransactionNotAdmittedException} if the transaction is not admitted by
+     * the {@link TransactionAdmissionControl}.
+     */
+    CompletionStage<Transaction> begin(boolean isReadOnly, int seconds);
+
+    /**
+     * Complete the given transaction.
+     *
+     * @param transaction The transaction to commit.
+     *
+     * @return A stage that completes when the transaction has been committed. The stage completes exceptionally with
+     * {@link RollbackException} if the transaction has been rolled back rather than committed,
+     * {@link HeuristicMixedException} or {@link HeuristicRollbackException} if a heuristic decision was made,
+     * {@link IllegalStateException} if the transaction is inactive, or {@link SystemException} if the transaction
+     * manager encounters an unexpected error condition.
+     */
+    CompletionStage<Void> commit(Transaction transaction);
+
+    /**
+     * Roll back the given transaction.
+     *
+     * @param transaction The transaction to roll back.
+     *
+     * @return A stage that completes when the transaction has been rolled back. The stage completes exceptionally with
+     * {@link IllegalStateException} if the transaction is inactive, or {@link SystemException} if the transaction manager
+     * encounters an unexpected error condition.
+     */
+    CompletionStage<Void> rollback(Transaction transaction);
+
+    /**
+     * <p>
+     * Enlist the given resource into the given transaction, with the same semantics as
+     * {@link Transaction#enlistResource(XAResource)}.
+     * </p>
+     *
+     * <p>
+     * Because the methods of {@code XAResource} block, the transaction manager invokes them, for this and for all later
+     * operations of the transaction on this resource, on a thread other than the calling thread. A resource manager that
+     * supports non-blocking operation should instead be enlisted with
+     * {@link #enlistResource(Transaction, AsyncXAResource)}.
+     * </p>
+     *
+     * @param transaction The transaction to enlist the resource in.
+     *
+     * @param xaRes The XAResource object associated with the resource (connection).
+     *
+     * @return A stage that completes with {@code true} if the resource was enlisted successfully, otherwise
+     * {@code false}. The stage completes exceptionally with {@link RollbackException} if the transaction has been marked
+     * for rollback only, {@link IllegalStateException} if the transaction is in the prepared state or inactive, or
+     * {@link SystemException} if the transaction manager encounters an unexpected error condition.
+     */
+    CompletionStage<Boolean> enlistResource(Transaction transaction, XAResource xaRes);
+
+    /**
+     * Disassociate the given resource from the given transaction, with the same semantics as
+     * {@link Transaction#delistResource(XAResource, int)}.
+     *
+     * @param transaction The transaction to delist the resource from.
+     *
+     * @param xaRes The XAResource object associated with the resource (connection).
+     *
+     * @param flag One of the values of TMSUCCESS, TMSUSPEND, or TMFAIL.
+     *
+     * @return A stage that completes with {@code true} if the resource was delisted successfully, otherwise
+     * {@code false}. The stage completes exceptionally with {@link IllegalStateException} if the transaction is inactive,
+     * or {@link SystemException} if the transaction manager encounters an unexpected error condition.
+     */
+    CompletionStage<Boolean> delistResource(Transaction transaction, XAResource xaRes, int flag);
+
+    /**
+     * <p>
+     * Enlist the given non-blocking resource into the given transaction, with the same semantics as
+     * {@link Transaction#enlistResource(XAResource)}.
+     * </p>
+     *
+     * <p>
+     * The transaction manager drives the transaction branch of this resource through the methods of
+     * {@link AsyncXAResource}, without blocking a thread while waiting for the resource manager.
+     * </p>
+     *
+     * @param transaction The transaction to enlist the resource in.
+     *
+     * @param asyncRes The AsyncXAResource object associated with the resource (connection).
+     *
+     * @return A stage that completes with {@code true} if the resource was enlisted successfully, otherwise
+     * {@code false}. The stage completes exceptionally with {@link RollbackException} if the transaction has been marked
+     * for rollback only, {@link IllegalStateException} if the transaction is in the prepared state or inactive, or
+     * {@link SystemException} if the transaction manager encounters an unexpected error condition.
+     */
+    CompletionStage<Boolean> enlistResource(Transaction transaction, AsyncXAResource asyncRes);
+
+    /**
+     * Disassociate the given non-blocking resource from the given transaction, with the same semantics as
+     * {@link Transaction#delistResource(XAResource, int)}.
+     *
+     * @param transaction The transaction to delist the resource from.
+     *
+     * @param asyncRes The AsyncXAResource object associated with the resource (connection).
+     *
+     * @param flag One of the values of TMSUCCESS, TMSUSPEND, or TMFAIL.
+     *
+     * @return A stage that completes with {@code true} if the resource was delisted successfully, otherwise
+     * {@code false}. The stage completes exceptionally with {@link IllegalStateException} if the transaction is inactive,
+     * or {@link SystemException} if the transaction manager encounters an unexpected error condition.
+     */
+    CompletionStage<Boolean> delistResource(Transaction transaction, AsyncXAResource asyncRes, int flag);
+}
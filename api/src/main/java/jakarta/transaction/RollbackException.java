@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -40,4 +40,18 @@ public class RollbackException extends java.lang.Exception {
     public RollbackException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * Create a RollbackException with suppression and a writable stack trace enabled or disabled.
+     *
+     * @param message The string message for the exception
+     * @param cause The cause of the exception
+     * @param enableSuppression Whether or not suppression is enabled
+     * @param writableStackTrace Whether or not the stack trace is writable
+     * @since 2.1
+     */
+    public RollbackException(String message, Throwable cause, boolean enableSuppression,
+            boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
 }
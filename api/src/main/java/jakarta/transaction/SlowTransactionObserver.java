@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.transaction;
+
+import java.util.List;
+import javax.transaction.xa.XAResource;
+
+/**
+ * <p>
+ * Receives reports of transactions that have been active for longer than a threshold, see
+ * {@link TransactionManager#setSlowTransactionObserver(SlowTransactionObserver, long)}.
+ * </p>
+ *
+ * <p>
+ * The transaction manager reports a transaction at most once, on a thread that is not associated with a transaction,
+ * while the transaction is still active. The observer must not complete the transaction and should return quickly.
+ * </p>
+ *
+ * @version Jakarta Transactions 2.1
+ * @since 2.1
+ */
+@FunctionalInterface
+public interface SlowTransactionObserver {
+
+    /**
+     * Called by the transaction manager when a transaction has been active for longer than the threshold.
+     *
+     * @param transaction The slow transaction.
+     *
+     * @param transactionKey The key of the transaction, as returned by
+     * {@link TransactionSynchronizationRegistry#getTransactionKey()}.
+     *
+     * @param ageMillis The time, in milliseconds, for which the transaction has been active.
+     *
+     * @param resources The resources enlisted in the transaction.
+     *
+     * @param ownerStack The stack trace of the thread associated with the transaction when it was reported, or an empty
+     * array if the transaction is not associated with a thread.
+     */
+    void slowTransaction(Transaction transaction, Object transactionKey, long ageMillis, List<XAResource> resources,
+            StackTraceElement[] ownerStack);
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,9 +17,10 @@
 package jakarta.transaction;
 
 /**
- * The Status interface defines static variables used for transaction status codes.
+ * The Status interface defines static variables used for transaction status codes, and the legal transitions between
+ * them.
  *
- * @version Jakarta Transactions 2.0
+ * @version Jakarta Transactions 2.1
  */
 
 public interface Status {
@@ -85,4 +86,43 @@ public interface Status {
      * probably waiting for responses from one or more Resources.
      */
     public final static int STATUS_ROLLING_BACK = 9;
+
+    /**
+     * <p>
+     * Indicates if the status of a transaction may change from one value to another. The legal transitions are:
+     * </p>
+     *
+     * <ul>
+     * <li>From STATUS_NO_TRANSACTION to STATUS_ACTIVE, when a transaction is begun.</li>
+     * <li>From STATUS_ACTIVE to any status other than STATUS_NO_TRANSACTION.</li>
+     * <li>From STATUS_MARKED_ROLLBACK to STATUS_ROLLING_BACK or STATUS_ROLLEDBACK.</li>
+     * <li>From STATUS_PREPARING to any status other than STATUS_ACTIVE and STATUS_NO_TRANSACTION.</li>
+     * <li>From STATUS_PREPARED to STATUS_COMMITTING, STATUS_COMMITTED, STATUS_ROLLING_BACK or STATUS_ROLLEDBACK.</li>
+     * <li>From STATUS_COMMITTING to STATUS_COMMITTED, or to STATUS_ROLLEDBACK if every resource manager made a heuristic
+     * decision to roll back.</li>
+     * <li>From STATUS_ROLLING_BACK to STATUS_ROLLEDBACK, or to STATUS_COMMITTED if every resource manager made a heuristic
+     * decision to commit.</li>
+     * <li>From STATUS_COMMITTED and STATUS_ROLLEDBACK to STATUS_NO_TRANSACTION, when the transaction is forgotten.</li>
+     * <li>From any status other than STATUS_NO_TRANSACTION, STATUS_COMMITTED and STATUS_ROLLEDBACK to STATUS_UNKNOWN, and
+     * from STATUS_UNKNOWN to a status that resolving the outcome can produce: STATUS_PREPARED, STATUS_COMMITTING,
+     * STATUS_ROLLING_BACK, STATUS_COMMITTED, STATUS_ROLLEDBACK or STATUS_NO_TRANSACTION.</li>
+     * </ul>
+     *
+     * <p>
+     * A status does not transition to itself. An implementation may skip intermediate statuses, as the transitions above
+     * allow, but must not make any other transition.
+     * </p>
+     *
+     * @param from The current status.
+     *
+     * @param to The new status.
+     *
+     * @return {@code true} if the transition is legal; otherwise {@code false}, including if either value is not a status
+     * defined by this interface.
+     *
+     * @since 2.1
+     */
+    public static boolean isValidTransition(int from, int to) {
+        return StatusTransitions.isValid(from, to);
+    }
 }
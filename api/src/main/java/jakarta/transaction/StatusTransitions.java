@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.transaction;
+
+import static jakarta.transaction.Status.STATUS_ACTIVE;
+import static jakarta.transaction.Status.STATUS_COMMITTED;
+import static jakarta.transaction.Status.STATUS_COMMITTING;
+import static jakarta.transaction.Status.STATUS_MARKED_ROLLBACK;
+import static jakarta.transaction.Status.STATUS_NO_TRANSACTION;
+import static jakarta.transaction.Status.STATUS_PREPARED;
+import static jakarta.transaction.Status.STATUS_PREPARING;
+import static jakarta.transaction.Status.STATUS_ROLLEDBACK;
+import static jakarta.transaction.Status.STATUS_ROLLING_BACK;
+import static jakarta.transaction.Status.STATUS_UNKNOWN;
+
+/**
+ * The table of legal transitions between the {@link Status} values, see
+ * {@link Status#isValidTransition(int, int)}.
+ */
+final class StatusTransitions {
+
+    private static final int STATUS_COUNT = STATUS_ROLLING_BACK + 1;
+
+    /**
+     * For each status, the set of statuses it may change to, with bit {@code 1 << s} set for status {@code s}.
+     */
+    private static final int[] TRANSITIONS = new int[STATUS_COUNT];
+
+    static {
+        allow(STATUS_NO_TRANSACTION, STATUS_ACTIVE);
+        allow(STATUS_ACTIVE, STATUS_MARKED_ROLLBACK, STATUS_PREPARING, STATUS_PREPARED, STATUS_COMMITTING,
+                STATUS_COMMITTED, STATUS_ROLLING_BACK, STATUS_ROLLEDBACK, STATUS_UNKNOWN);
+        allow(STATUS_MARKED_ROLLBACK, STATUS_ROLLING_BACK, STATUS_ROLLEDBACK, STATUS_UNKNOWN);
+        allow(STATUS_PREPARING, STATUS_MARKED_ROLLBACK, STATUS_PREPARED, STATUS_COMMITTING, STATUS_COMMITTED,
+                STATUS_ROLLING_BACK, STATUS_ROLLEDBACK, STATUS_UNKNOWN);
+        allow(STATUS_PREPARED, STATUS_COMMITTING, STATUS_COMMITTED, STATUS_ROLLING_BACK, STATUS_ROLLEDBACK,
+                STATUS_UNKNOWN);
+        allow(STATUS_COMMITTING, STATUS_COMMITTED, STATUS_ROLLEDBACK, STATUS_UNKNOWN);
+        allow(STATUS_ROLLING_BACK, STATUS_ROLLEDBACK, STATUS_COMMITTED, STATUS_UNKNOWN);
+        allow(STATUS_COMMITTED, STATUS_NO_TRANSACTION);
+        allow(STATUS_ROLLEDBACK, STATUS_NO_TRANSACTION);
+        allow(STATUS_UNKNOWN, STATUS_PREPARED, STATUS_COMMITTING, STATUS_ROLLING_BACK, STATUS_COMMITTED,
+                STATUS_ROLLEDBACK, STATUS_NO_TRANSACTION);
+    }
+
+    private StatusTransitions() {
+    }
+
+    private static void allow(int from, int... to) {
+        for (int status : to) {
+            TRANSITIONS[from] |= 1 << status;
+        }
+    }
+
+    static boolean isValid(int from, int to) {
+        if (from < 0 || from >= STATUS_COUNT || to < 0 || to >= STATUS_COUNT) {
+            return false;
+        }
+        return (TRANSITIONS[from] & (1 << to)) != 0;
+    }
+}
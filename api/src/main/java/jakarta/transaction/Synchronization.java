@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -32,7 +32,9 @@ public interface Synchronization {
     public void beforeCompletion();
 
     /**
-     * This method is called by the transaction manager after the transaction is committed or rolled back.
+     * This method is called by the transaction manager after the transaction is committed or rolled back. If the
+     * transaction manager completes the transaction branches of the resources enlisted in the transaction concurrently,
+     * this method is called only after every transaction branch has been completed.
      *
      * @param status The status of the transaction completion.
      */
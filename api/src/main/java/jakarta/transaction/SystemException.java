@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -69,4 +69,21 @@ public class SystemException extends java.lang.Exception {
         super(message, cause);
         this.errorCode = errorCode;
     }
+
+    /**
+     * Create a SystemException with a given error code, and with suppression and a writable stack trace enabled or
+     * disabled.
+     *
+     * @param errorCode The error code for the exception
+     * @param message The string message for the exception
+     * @param cause The cause of the exception
+     * @param enableSuppression Whether or not suppression is enabled
+     * @param writableStackTrace Whether or not the stack trace is writable
+     * @since 2.1
+     */
+    public SystemException(int errorCode, String message, Throwable cause, boolean enableSuppression,
+            boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+        this.errorCode = errorCode;
+    }
 }
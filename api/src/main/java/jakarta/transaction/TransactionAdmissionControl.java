@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.transaction;
+
+/**
+ * <p>
+ * Limits the number of transactions that are active at the same time in a transaction manager.
+ * </p>
+ *
+ * <p>
+ * If a maximum is set and that many transactions are active, a call to a begin method waits until another transaction
+ * completes, for at most the configured admission timeout. If no transaction completes in that time, or if the admission
+ * timeout is zero, the begin method throws {@link TransactionNotAdmittedException} without starting a transaction.
+ * {@link ReactiveTransactionManager} does not block the caller; the stage returned by its begin methods completes when
+ * the transaction is admitted, or exceptionally with {@code TransactionNotAdmittedException}.
+ * </p>
+ *
+ * <p>
+ * The counts returned by this interface are snapshots that may be out of date by the time they are returned. They are
+ * intended to be read frequently, for example by a load balancer that sheds work before the admission limit is reached,
+ * and reading them must not block transactions being begun or completed.
+ * </p>
+ *
+ * @version Jakarta Transactions 2.1
+ * @since 2.1
+ */
+public interface TransactionAdmissionControl {
+
+    /**
+     * Obtain the maximum number of transactions that may be active at the same time.
+     *
+     * @return The maximum number of active transactions, or zero if the number is not limited.
+     */
+    int getMaxActiveTransactions();
+
+    /**
+     * Modify the maximum number of transactions that may be active at the same time. Lowering the maximum does not affect
+     * transactions that are already active.
+     *
+     * @param max The maximum number of active transactions. If the value is zero, the number is not limited.
+     *
+     * @exception IllegalArgumentException Thrown if the value is negative.
+     */
+    void setMaxActiveTransactions(int max);
+
+    /**
+     * Obtain the time for which a begin method waits for a transaction to complete when the maximum number of active
+     * transactions has been reached.
+     *
+     * @return The admission timeout in milliseconds.
+     */
+    long getAdmissionTimeout();
+
+    /**
+     * Modify the time for which a begin method waits for a transaction to complete when the maximum number of active
+     * transactions has been reached.
+     *
+     * @param millis The admission timeout in milliseconds. If the value is zero, a begin method fails immediately.
+     *
+     * @exception IllegalArgumentException Thrown if the value is negative.
+     */
+    void setAdmissionTimeout(long millis);
+
+    /**
+     * Obtain the number of transactions that are currently active.
+     *
+     * @return The number of active transactions.
+     */
+    int getActiveTransactionCount();
+
+    /**
+     * Obtain the number of callers of a begin method that are currently waiting to be admitted.
+     *
+     * @return The number of waiting callers.
+     */
+    int getQueueDepth();
+}
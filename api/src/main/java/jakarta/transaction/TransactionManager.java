@@ -33,7 +33,9 @@ public interface TransactionManager {
      * @exception NotSupportedException Thrown if the thread is already associated with a transaction and the Transaction
      * Manager implementation does not support nested transactions.
      *
-     * @exception SystemException Thrown if the transaction manager encounters an unexpected error condition.
+     * @exception SystemException Thrown if the transaction manager encounters an unexpected error condition. Thrown as
+     * {@link TransactionNotAdmittedException} if the transaction is not admitted by the
+     * {@linkplain #getAdmissionControl() admission control}.
      *
      */
     public void begin() throws NotSupportedException, SystemException;
@@ -67,7 +69,9 @@ public interface TransactionManager {
      * @exception NotSupportedException Thrown if the thread is already associated with a transaction and the Transaction
      * Manager implementation does not support nested transactions.
      *
-     * @exception SystemException Thrown if the transaction manager encounters an unexpected error condition.
+     * @exception SystemException Thrown if the transaction manager encounters an unexpected error condition. Thrown as
+     * {@link TransactionNotAdmittedException} if the transaction is not admitted by the
+     * {@linkplain #getAdmissionControl() admission control}.
      * @since 2.1
      */
     public void begin(boolean isReadOnly) throws NotSupportedException, SystemException;
@@ -165,6 +169,14 @@ public interface TransactionManager {
      * If an application has not called this method, the transaction service uses some default value for the transaction
      * timeout.
      *
+     * <p>
+     * The transaction service is not required to detect the expiry of the timeout at the exact instant at which it occurs;
+     * it may check for expired transactions periodically, with a delay whose bound is implementation defined.
+     *
+     * <p>
+     * When the timeout expires, the transaction is marked for rollback, and the transaction service may roll back the
+     * work of the resources that are not associated with a thread before the application completes the transaction.
+     *
      * @param seconds The value of the timeout in seconds. If the value is zero, the transaction service restores the
      * default value. If the value is negative a SystemException is thrown.
      *
@@ -173,6 +185,93 @@ public interface TransactionManager {
      */
     public void setTransactionTimeout(int seconds) throws SystemException;
 
+    /**
+     * Modify the completion mode that is associated with transactions started by the current thread with the begin method.
+     *
+     * <p>
+     * If asynchronous commit is enabled, the commit method returns as soon as the decision to commit the transaction has
+     * been made durable, and the transaction manager completes the second phase of the two-phase commit protocol after the
+     * commit method has returned. Heuristic decisions made during the second phase are not thrown by the commit method;
+     * they are reported to the {@link HeuristicOutcomeObserver}. The {@link Synchronization#afterCompletion(int)} callbacks
+     * of the transaction are invoked once every resource has completed the second phase, on a thread that is not
+     * associated with a transaction, and may be invoked after the commit method has returned.
+     *
+     * <p>
+     * Asynchronous commit only takes effect while a {@link HeuristicOutcomeObserver} is registered with
+     * {@link #setHeuristicOutcomeObserver(HeuristicOutcomeObserver)}. If no observer is registered when the commit method
+     * is invoked, the transaction is committed as if asynchronous commit were disabled, and the commit method reports
+     * heuristic decisions by throwing {@link HeuristicMixedException} or {@link HeuristicRollbackException}, so that no
+     * heuristic outcome is lost.
+     *
+     * <p>
+     * If an application has not called this method, asynchronous commit is disabled. A transaction manager that does not
+     * support asynchronous commit ignores this method.
+     *
+     * @param asynchronous {@code true} to enable asynchronous commit; {@code false} to disable it.
+     *
+     * @exception SystemException Thrown if the transaction manager encounters an unexpected error condition.
+     * @since 2.1
+     */
+    public void setAsynchronousCommit(boolean asynchronous) throws SystemException;
+
+    /**
+     * Register the observer to which the transaction manager reports the heuristic outcomes of transactions committed with
+     * asynchronous commit enabled. The observer replaces any observer registered before. While no observer is registered,
+     * asynchronous commit has no effect; removing the observer does not affect transactions whose commit method has already
+     * returned, whose heuristic outcomes are still reported to the observer that was registered when they were committed.
+     *
+     * @param observer The observer, or {@code null} to remove the registered observer.
+     *
+     * @exception SystemException Thrown if the transaction manager encounters an unexpected error condition.
+     * @since 2.1
+     */
+    public void setHeuristicOutcomeObserver(HeuristicOutcomeObserver observer) throws SystemException;
+
+    /**
+     * Obtain the admission control that limits the number of transactions active at the same time in this transaction
+     * manager.
+     *
+     * @return The admission control of this transaction manager, or {@code null} if the transaction manager does not
+     * limit the number of active transactions.
+     *
+     * @exception SystemException Thrown if the transaction manager encounters an unexpected error condition.
+     * @since 2.1
+     */
+    public TransactionAdmissionControl getAdmissionControl() throws SystemException;
+
+    /**
+     * Obtain the statistics of the transactions begun and completed by this transaction manager.
+     *
+     * @return The statistics of this transaction manager, or {@code null} if the transaction manager does not keep
+     * statistics.
+     *
+     * @exception SystemException Thrown if the transaction manager encounters an unexpected error condition.
+     * @since 2.1
+     */
+    public TransactionStatistics getStatistics() throws SystemException;
+
+    /**
+     * Register the observer to which the transaction manager reports transactions that have been active for longer than
+     * the given threshold. The observer replaces any observer registered before.
+     *
+     * <p>
+     * The transaction manager checks the age of active transactions periodically, for example when it checks for expired
+     * transaction timeouts, and obtains the stack trace of the associated thread only for the transactions it reports.
+     * A transaction manager that does not report slow transactions ignores this method.
+     *
+     * @param observer The observer, or {@code null} to remove the registered observer.
+     *
+     * @param thresholdMillis The age, in milliseconds, after which an active transaction is reported. The value is
+     * ignored if {@code observer} is {@code null}.
+     *
+     * @exception IllegalArgumentException Thrown if {@code observer} is not {@code null} and the value of
+     * {@code thresholdMillis} is not positive.
+     *
+     * @exception SystemException Thrown if the transaction manager encounters an unexpected error condition.
+     * @since 2.1
+     */
+    public void setSlowTransactionObserver(SlowTransactionObserver observer, long thresholdMillis) throws SystemException;
+
     /**
      * Suspend the transaction currently associated with the calling thread and return a Transaction object that represents
      * the transaction context being suspended. If the calling thread is not associated with a transaction, the method
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.transaction;
+
+/**
+ * This exception is thrown by a begin method when the transaction is not admitted by the
+ * {@link TransactionAdmissionControl} of the transaction manager, because the maximum number of active transactions
+ * has been reached and no transaction completed within the admission timeout. Unlike other occurrences of
+ * {@link SystemException}, it does not indicate a failure of the transaction manager, and the caller may retry later.
+ *
+ * @version Jakarta Transactions 2.1
+ * @since 2.1
+ */
+public class TransactionNotAdmittedException extends SystemException {
+
+    /**
+     * Specify serialVersionUID for backward compatibility
+     */
+    private static final long serialVersionUID = -6187260472318924409L;
+
+    public TransactionNotAdmittedException() {
+        super();
+    }
+
+    public TransactionNotAdmittedException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -21,7 +21,7 @@ package jakarta.transaction;
  * has been marked to roll back. Thus the requested operation either could not be performed or was not performed because
  * further computation on behalf of the transaction would be fruitless.
  *
- * @version Jakarta Transactions 2.0
+ * @version Jakarta Transactions 2.1
  */
 public class TransactionRolledbackException extends java.rmi.RemoteException {
 
@@ -41,4 +41,43 @@ public class TransactionRolledbackException extends java.rmi.RemoteException {
     public TransactionRolledbackException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * Create a TransactionRolledbackException that does not capture a stack trace.
+     *
+     * @param message The string message for the exception
+     * @param cause The cause of the exception
+     * @return The exception, with an empty stack trace
+     * @since 2.1
+     */
+    public static TransactionRolledbackException withoutStackTrace(String message, Throwable cause) {
+        return new WithoutStackTrace(message, cause);
+    }
+
+    /**
+     * A TransactionRolledbackException that does not capture a stack trace, and is serialized as a plain
+     * TransactionRolledbackException.
+     */
+    private static final class WithoutStackTrace extends TransactionRolledbackException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String message;
+
+        WithoutStackTrace(String message, Throwable cause) {
+            super(message, cause);
+            this.message = message;
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+
+        private Object writeReplace() {
+            TransactionRolledbackException replacement = new TransactionRolledbackException(message, detail);
+            replacement.setStackTrace(getStackTrace());
+            return replacement;
+        }
+    }
 }
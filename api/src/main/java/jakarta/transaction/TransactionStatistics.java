@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.transaction;
+
+import java.util.Set;
+
+/**
+ * <p>
+ * Statistics about the transactions completed by a transaction manager, obtained with
+ * {@link TransactionManager#getStatistics()}.
+ * </p>
+ *
+ * <p>
+ * The counts and latencies are accumulated from the time the transaction manager was started. They are updated by the
+ * threads that begin and complete transactions without synchronizing with each other, and may be read at any time
+ * without blocking those threads; a value returned may therefore not reflect transactions that are completing while it
+ * is read.
+ * </p>
+ *
+ * <p>
+ * The latency histograms returned by this interface are snapshots, which the caller cannot modify.
+ * </p>
+ *
+ * @version Jakarta Transactions 2.1
+ * @since 2.1
+ */
+public interface TransactionStatistics {
+
+    /**
+     * The phases of transaction completion for which latencies are recorded.
+     */
+    public enum Phase {
+
+        /**
+         * The completion of a transaction as a whole, from the invocation of the commit or rollback method until it
+         * returns.
+         */
+        COMPLETION,
+
+        /**
+         * The preparation of a transaction branch, that is a call to {@code XAResource.prepare}.
+         */
+        PREPARE,
+
+        /**
+         * The commit of a transaction branch, that is a call to {@code XAResource.commit}.
+         */
+        COMMIT,
+
+        /**
+         * The rollback of a transaction branch, that is a call to {@code XAResource.rollback}.
+         */
+        ROLLBACK
+    }
+
+    /**
+     * Obtain the number of transactions begun.
+     *
+     * @return The number of transactions begun.
+     */
+    long getBegunCount();
+
+    /**
+     * Obtain the number of transactions committed.
+     *
+     * @return The number of transactions committed.
+     */
+    long getCommittedCount();
+
+    /**
+     * Obtain the number of transactions rolled back, including those rolled back because they timed out.
+     *
+     * @return The number of transactions rolled back.
+     */
+    long getRolledBackCount();
+
+    /**
+     * Obtain the number of transactions rolled back because they timed out.
+     *
+     * @return The number of transactions that timed out.
+     */
+    long getTimedOutCount();
+
+    /**
+     * Obtain the number of transactions for which a resource manager made a heuristic decision.
+     *
+     * @return The number of transactions with a heuristic outcome.
+     */
+    long getHeuristicCount();
+
+    /**
+     * Obtain the latencies of the given phase for all resource managers.
+     *
+     * @param phase The phase.
+     *
+     * @return A snapshot of the latencies of the phase.
+     */
+    LatencyHistogram getLatency(Phase phase);
+
+    /**
+     * Obtain the names of the resource managers for which latencies have been recorded. The name of a resource manager is
+     * determined by the transaction manager, for example from the name of the resource factory configured in the
+     * application server.
+     *
+     * @return The names of the resource managers.
+     */
+    Set<String> getResourceManagers();
+
+    /**
+     * Obtain the latencies of the given phase for the given resource manager.
+     *
+     * @param phase The phase. The latencies of {@link Phase#COMPLETION} are not recorded per resource manager.
+     *
+     * @param resourceManager The name of the resource manager.
+     *
+     * @return A snapshot of the latencies of the phase for the resource manager, or {@code null} if no latency has been
+     * recorded for it.
+     */
+    LatencyHistogram getLatency(Phase phase, String resourceManager);
+}
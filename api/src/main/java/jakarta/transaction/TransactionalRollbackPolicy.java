@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.transaction;
+
+/**
+ * <p>
+ * Decides whether an exception that reaches a Transactional interceptor must cause the interceptor to mark the
+ * transaction for rollback, according to the {@link Transactional#rollbackOn()} and {@link Transactional#dontRollbackOn()}
+ * elements of the annotation.
+ * </p>
+ * <p>
+ * If the class of the exception is, or is a subclass of, a class specified by dontRollbackOn, the transaction must not
+ * be marked for rollback. Otherwise, if it is, or is a subclass of, a class specified by rollbackOn, the transaction must
+ * be marked for rollback. Otherwise instances of RuntimeException and its subclasses cause the transaction to be marked
+ * for rollback and checked exceptions do not.
+ * </p>
+ * <p>
+ * A policy is intended to be created once for each intercepted method, for example when the bean is deployed. The
+ * decision for each exception class is computed the first time an exception of that class is passed to
+ * {@link #isRollbackRequired(Exception)} and cached afterwards. Instances of this class are safe for use by multiple
+ * threads.
+ * </p>
+ * <p>
+ * The policy does not take the {@link Transactional#isReadOnly()} element into account; a read-only transaction rolls
+ * back regardless of the exceptions thrown.
+ * </p>
+ *
+ * @version Jakarta Transactions 2.1
+ * @since 2.1
+ */
+public final class TransactionalRollbackPolicy {
+
+    private static final Class<?>[] NONE = new Class<?>[0];
+
+    private static final TransactionalRollbackPolicy DEFAULT = new TransactionalRollbackPolicy(NONE, NONE);
+
+    private final Class<?>[] rollbackOn;
+
+    private final Class<?>[] dontRollbackOn;
+
+    private final ClassValue<Boolean> decisions = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return decide(type);
+        }
+    };
+
+    private TransactionalRollbackPolicy(Class<?>[] rollbackOn, Class<?>[] dontRollbackOn) {
+        this.rollbackOn = rollbackOn;
+        this.dontRollbackOn = dontRollbackOn;
+    }
+
+    /**
+     * Obtain the rollback policy defined by the given annotation.
+     *
+     * @param transactional The Transactional annotation that applies to the intercepted method.
+     *
+     * @return The rollback policy of the annotation.
+     */
+    public static TransactionalRollbackPolicy of(Transactional transactional) {
+        return of(transactional.rollbackOn(), transactional.dontRollbackOn());
+    }
+
+    /**
+     * Obtain the rollback policy defined by the given rollbackOn and dontRollbackOn classes.
+     *
+     * @param rollbackOn Classes of exceptions that must cause the transaction to be marked for rollback.
+     *
+     * @param dontRollbackOn Classes of exceptions that must not cause the transaction to be marked for rollback.
+     *
+     * @return The rollback policy for the given classes. If both arrays are empty, the shared default policy is returned.
+     */
+    public static TransactionalRollbackPolicy of(Class<?>[] rollbackOn, Class<?>[] dontRollbackOn) {
+        if (rollbackOn.length == 0 && dontRollbackOn.length == 0) {
+            return DEFAULT;
+        }
+        return new TransactionalRollbackPolicy(rollbackOn.clone(), dontRollbackOn.clone());
+    }
+
+    /**
+     * Obtain the default rollback policy, which applies when neither rollbackOn nor dontRollbackOn is specified.
+     *
+     * @return The default rollback policy.
+     */
+    public static TransactionalRollbackPolicy defaultPolicy() {
+        return DEFAULT;
+    }
+
+    /**
+     * Indicates if the given exception must cause the interceptor to mark the transaction for rollback.
+     *
+     * @param exception The exception that reached the interceptor.
+     *
+     * @return {@code true} if the transaction must be marked for rollback; otherwise {@code false}.
+     */
+    public boolean isRollbackRequired(Exception exception) {
+        return decisions.get(exception.getClass());
+    }
+
+    private boolean decide(Class<?> type) {
+        for (Class<?> dontRollback : dontRollbackOn) {
+            if (dontRollback.isAssignableFrom(type)) {
+                return false;
+            }
+        }
+        for (Class<?> rollback : rollbackOn) {
+            if (rollback.isAssignableFrom(type)) {
+                return true;
+            }
+        }
+        return RuntimeException.class.isAssignableFrom(type);
+    }
+}
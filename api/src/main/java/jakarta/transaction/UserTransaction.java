@@ -33,7 +33,9 @@ public interface UserTransaction {
      * @exception NotSupportedException Thrown if the thread is already associated with a transaction and the Transaction
      * Manager implementation does not support nested transactions.
      *
-     * @exception SystemException Thrown if the transaction manager encounters an unexpected error condition.
+     * @exception SystemException Thrown if the transaction manager encounters an unexpected error condition. Thrown as
+     * {@link TransactionNotAdmittedException} if the transaction is not admitted because the maximum number of active
+     * transactions has been reached.
      *
      */
     void begin() throws NotSupportedException, SystemException;
@@ -63,7 +65,9 @@ public interface UserTransaction {
      * @exception NotSupportedException Thrown if the thread is already associated with a transaction and the Transaction
      * Manager implementation does not support nested transactions.
      *
-     * @exception SystemException Thrown if the transaction manager encounters an unexpected error condition.
+     * @exception SystemException Thrown if the transaction manager encounters an unexpected error condition. Thrown as
+     * {@link TransactionNotAdmittedException} if the transaction is not admitted because the maximum number of active
+     * transactions has been reached.
      * @since 2.1
      */
     void begin(boolean isReadOnly) throws NotSupportedException, SystemException;
@@ -133,6 +137,14 @@ public interface UserTransaction {
      * If an application has not called this method, the transaction service uses some default value for the transaction
      * timeout.
      *
+     * <p>
+     * The transaction service is not required to detect the expiry of the timeout at the exact instant at which it occurs;
+     * it may check for expired transactions periodically, with a delay whose bound is implementation defined.
+     *
+     * <p>
+     * When the timeout expires, the transaction is marked for rollback, and the transaction service may roll back the
+     * work of the resources that are not associated with a thread before the application completes the transaction.
+     *
      * @param seconds The value of the timeout in seconds. If the value is zero, the transaction service restores the
      * default value. If the value is negative a SystemException is thrown.
      *
@@ -141,6 +153,24 @@ public interface UserTransaction {
      */
     void setTransactionTimeout(int seconds) throws SystemException;
 
+    /**
+     * Modify the completion mode that is associated with transactions started by the current thread with the begin method.
+     * See {@link TransactionManager#setAsynchronousCommit(boolean)}.
+     *
+     * <p>
+     * If asynchronous commit is enabled, the commit method returns as soon as the decision to commit the transaction has
+     * been made durable, and does not report heuristic decisions made after that point. Asynchronous commit only takes
+     * effect while the application server has registered an observer for such heuristic decisions with
+     * {@link TransactionManager#setHeuristicOutcomeObserver(HeuristicOutcomeObserver)}; otherwise the commit method behaves
+     * as if asynchronous commit were disabled.
+     *
+     * @param asynchronous {@code true} to enable asynchronous commit; {@code false} to disable it.
+     *
+     * @exception SystemException Thrown if the transaction manager encounters an unexpected error condition.
+     * @since 2.1
+     */
+    void setAsynchronousCommit(boolean asynchronous) throws SystemException;
+
     /**
      * Indicates if the transaction bound to the current thread is effectively read-only because the transaction was started
      * with a value of {@code true} for {@link Transactional#isReadOnly()}, {@link UserTransaction#begin(boolean)}, or
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.transaction.xa;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+/**
+ * <p>
+ * Non-blocking counterpart of {@link XAResource}, for resource managers whose drivers can take part in a transaction
+ * without blocking a thread for each transaction branch.
+ * </p>
+ *
+ * <p>
+ * Each method has the same meaning, arguments and flags as the {@code XAResource} method of the same name, but returns
+ * a {@link CompletionStage} instead of blocking until the resource manager has responded. If the resource manager
+ * reports an error, the stage completes exceptionally with the {@link XAException} that the {@code XAResource} method
+ * would throw.
+ * </p>
+ *
+ * <p>
+ * {@link #of(XAResource, Executor)} and {@link #toXAResource(AsyncXAResource)} adapt between this interface and
+ * {@code XAResource}, so that a transaction manager can treat all participants of a transaction in the same way.
+ * </p>
+ *
+ * @version Jakarta Transactions 2.1
+ * @since 2.1
+ */
+public interface AsyncXAResource {
+
+    /**
+     * Starts work on behalf of a transaction branch. See {@link XAResource#start(Xid, int)}.
+     *
+     * @param xid A global transaction identifier to be associated with the resource.
+     *
+     * @param flags One of TMNOFLAGS, TMJOIN, or TMRESUME.
+     *
+     * @return A stage that completes when the resource manager has started the work.
+     */
+    CompletionStage<Void> start(Xid xid, int flags);
+
+    /**
+     * Ends the work performed on behalf of a transaction branch. See {@link XAResource#end(Xid, int)}.
+     *
+     * @param xid A global transaction identifier that is the same as the identifier used previously in the start method.
+     *
+     * @param flags One of TMSUCCESS, TMFAIL, or TMSUSPEND.
+     *
+     * @return A stage that completes when the resource manager has ended the work.
+     */
+    CompletionStage<Void> end(Xid xid, int flags);
+
+    /**
+     * Asks the resource manager to prepare for a transaction commit of the transaction specified in xid. See
+     * {@link XAResource#prepare(Xid)}.
+     *
+     * @param xid A global transaction identifier.
+     *
+     * @return A stage that completes with XA_RDONLY or XA_OK.
+     */
+    CompletionStage<Integer> prepare(Xid xid);
+
+    /**
+     * Commits the global transaction specified by xid. See {@link XAResource#commit(Xid, boolean)}.
+     *
+     * @param xid A global transaction identifier.
+     *
+     * @param onePhase If true, the resource manager should use a one-phase commit protocol to commit the work done on
+     * behalf of xid.
+     *
+     * @return A stage that completes when the transaction branch has been committed.
+     */
+    CompletionStage<Void> commit(Xid xid, boolean onePhase);
+
+    /**
+     * Informs the resource manager to roll back work done on behalf of a transaction branch. See
+     * {@link XAResource#rollback(Xid)}.
+     *
+     * @param xid A global transaction identifier.
+     *
+     * @return A stage that completes when the transaction branch has been rolled back.
+     */
+    CompletionStage<Void> rollback(Xid xid);
+
+    /**
+     * Tells the resource manager to forget about a heuristically completed transaction branch. See
+     * {@link XAResource#forget(Xid)}.
+     *
+     * @param xid A global transaction identifier.
+     *
+     * @return A stage that completes when the resource manager has forgotten the transaction branch.
+     */
+    CompletionStage<Void> forget(Xid xid);
+
+    /**
+     * Obtains a list of prepared transaction branches from a resource manager. See {@link XAResource#recover(int)}.
+     *
+     * @param flag One of TMSTARTRSCAN, TMENDRSCAN, TMNOFLAGS.
+     *
+     * @return A stage that completes with the resource manager's transaction branches that are in the prepared or
+     * heuristically completed state.
+     */
+    CompletionStage<Xid[]> recover(int flag);
+
+    /**
+     * Determines whether the resource manager instance represented by the target object is the same as the resource
+     * manager instance represented by the parameter. See {@link XAResource#isSameRM(XAResource)}.
+     *
+     * @param xares An AsyncXAResource object whose resource manager instance is to be compared with the target object.
+     *
+     * @return {@code true} if it's the same resource manager instance; otherwise {@code false}.
+     *
+     * @exception XAException An error has occurred. Possible exception values are XAER_RMERR and XAER_RMFAIL.
+     */
+    boolean isSameRM(AsyncXAResource xares) throws XAException;
+
+    /**
+     * Adapts a blocking {@code XAResource} to this interface. Each method of the returned object invokes the
+     * corresponding method of {@code xaRes} on the given executor. Calls are invoked one at a time, in the order in which
+     * they were made, even if the executor uses several threads; a call is invoked once the stage of the previous call
+     * has completed, whether normally or exceptionally. If {@code xaRes} throws an unchecked exception, the stage
+     * completes exceptionally with an {@link XAException} with error code XAER_RMERR; if the executor rejects a call, with
+     * error code XAER_RMFAIL. The exception is {@link #isSameRM(AsyncXAResource) isSameRM}, which does not return a
+     * stage: it invokes {@code xaRes.isSameRM} on the calling thread, possibly while another call is being invoked on
+     * the executor.
+     *
+     * @param xaRes The resource to adapt.
+     *
+     * @param executor The executor on which the methods of {@code xaRes} are invoked.
+     *
+     * @return A non-blocking view of {@code xaRes}.
+     */
+    static AsyncXAResource of(XAResource xaRes, Executor executor) {
+        return new ExecutorAsyncXAResource(xaRes, executor);
+    }
+
+    /**
+     * Adapts an {@code AsyncXAResource} to the blocking {@code XAResource} interface. Each method of the returned object
+     * blocks the calling thread until the stage returned by the corresponding method of {@code asyncRes} completes. The
+     * returned object does not support transaction timeouts.
+     *
+     * @param asyncRes The resource to adapt.
+     *
+     * @return A blocking view of {@code asyncRes}.
+     */
+    static XAResource toXAResource(AsyncXAResource asyncRes) {
+        return new BlockingXAResource(asyncRes);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.transaction.xa;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+/**
+ * Blocking view of an {@link AsyncXAResource}, which waits for each stage to complete.
+ *
+ * @see AsyncXAResource#toXAResource(AsyncXAResource)
+ */
+final class BlockingXAResource implements XAResource {
+
+    private final AsyncXAResource asyncRes;
+
+    BlockingXAResource(AsyncXAResource asyncRes) {
+        this.asyncRes = asyncRes;
+    }
+
+    /**
+     * Waits for the given stage to complete and returns its result, or throws the {@link XAException} it completed with.
+     * Any other failure is reported as XAER_RMERR, and interruption as XAER_RMFAIL.
+     */
+    private static <T> T await(CompletionStage<T> stage) throws XAException {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        stage.whenComplete((value, failure) -> {
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(value);
+            }
+        });
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            XAException xae = new XAException(XAException.XAER_RMFAIL);
+            xae.initCause(e);
+            throw xae;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            // Stages derived with thenApply etc. wrap the original failure in a CompletionException
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof XAException) {
+                throw (XAException) cause;
+            }
+            XAException xae = new XAException(XAException.XAER_RMERR);
+            xae.initCause(cause);
+            throw xae;
+        }
+    }
+
+    @Override
+    public void start(Xid xid, int flags) throws XAException {
+        await(asyncRes.start(xid, flags));
+    }
+
+    @Override
+    public void end(Xid xid, int flags) throws XAException {
+        await(asyncRes.end(xid, flags));
+    }
+
+    @Override
+    public int prepare(Xid xid) throws XAException {
+        return await(asyncRes.prepare(xid));
+    }
+
+    @Override
+    public void commit(Xid xid, boolean onePhase) throws XAException {
+        await(asyncRes.commit(xid, onePhase));
+    }
+
+    @Override
+    public void rollback(Xid xid) throws XAException {
+        await(asyncRes.rollback(xid));
+    }
+
+    @Override
+    public void forget(Xid xid) throws XAException {
+        await(asyncRes.forget(xid));
+    }
+
+    @Override
+    public Xid[] recover(int flag) throws XAException {
+        return await(asyncRes.recover(flag));
+    }
+
+    @Override
+    public boolean isSameRM(XAResource xares) throws XAException {
+        if (xares instanceof BlockingXAResource) {
+            return asyncRes.isSameRM(((BlockingXAResource) xares).asyncRes);
+        }
+        return false;
+    }
+
+    @Override
+    public int getTransactionTimeout() throws XAException {
+        return 0;
+    }
+
+    @Override
+    public boolean setTransactionTimeout(int seconds) throws XAException {
+        return false;
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.transaction.xa;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.Arrays;
+
+import javax.transaction.xa.Xid;
+
+/**
+ * <p>
+ * An immutable {@link Xid} that keeps the global transaction identifier and the branch qualifier in a single backing
+ * array and computes its hash code once, at construction time.
+ * </p>
+ *
+ * <p>
+ * Instances are obtained from a {@link XidFactory}. Branches derived from the same global transaction with
+ * {@link XidFactory#createBranch(Xid, int)} share the backing array of that transaction, so deriving a branch does not
+ * copy the global transaction identifier, unless the {@code Xid} of the transaction has a branch qualifier.
+ * </p>
+ *
+ * <p>
+ * Two {@code CompactXid} instances are equal if they have the same format identifier, global transaction identifier and
+ * branch qualifier, regardless of how they were created. A {@code Xid} of another implementation, such as one returned
+ * by {@link javax.transaction.xa.XAResource#recover(int)}, can be converted with {@link XidFactory#copyOf(Xid)} before
+ * it is compared.
+ * </p>
+ *
+ * @version Jakarta Transactions 2.1
+ * @since 2.1
+ */
+public final class CompactXid implements Xid, Serializable {
+
+    private static final long serialVersionUID = 2497335742307296497L;
+
+    /**
+     * Value of {@link #branch} for an identifier whose branch qualifier is held entirely in the backing array.
+     */
+    static final int NO_BRANCH = -1;
+
+    private static final int BRANCH_LENGTH = 4;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final int formatId;
+
+    /**
+     * The global transaction identifier, followed by the first {@link #bqualLength} bytes of the branch qualifier.
+     */
+    private final byte[] data;
+
+    private final int gtridLength;
+
+    private final int bqualLength;
+
+    /**
+     * Branch number appended in big-endian order to the branch qualifier, or {@link #NO_BRANCH}.
+     */
+    private final int branch;
+
+    private final int hash;
+
+    CompactXid(int formatId, byte[] data, int gtridLength, int bqualLength, int branch) {
+        this.formatId = formatId;
+        this.data = data;
+        this.gtridLength = gtridLength;
+        this.bqualLength = bqualLength;
+        this.branch = branch;
+        this.hash = computeHash();
+    }
+
+    private int computeHash() {
+        int h = 31 * formatId + gtridLength;
+        for (int i = 0; i < gtridLength; i++) {
+            h = 31 * h + data[i];
+        }
+        int length = branchQualifierLength();
+        for (int i = 0; i < length; i++) {
+            h = 31 * h + branchQualifierByte(i);
+        }
+        return h;
+    }
+
+    /**
+     * Serializes this instance as a {@link SerializedForm}, which holds the components of the identifier rather than the
+     * backing array.
+     */
+    private Object writeReplace() {
+        return new SerializedForm(formatId, getGlobalTransactionId(), getBranchQualifier());
+    }
+
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("A CompactXid is only deserialized from its serialized form");
+    }
+
+    /**
+     * Derives another branch of the global transaction identified by this {@code Xid}. The returned instance shares the
+     * backing array of this instance if this instance has no branch qualifier, and otherwise a copy of its global
+     * transaction identifier.
+     */
+    CompactXid withBranch(int branch) {
+        byte[] gtrid = bqualLength == 0 ? data : Arrays.copyOf(data, gtridLength);
+        return new CompactXid(formatId, gtrid, gtridLength, 0, branch);
+    }
+
+    int globalTransactionIdLength() {
+        return gtridLength;
+    }
+
+    /**
+     * Returns {@code true} if the global transaction identifier of this {@code Xid} starts with the given bytes.
+     */
+    boolean globalTransactionIdStartsWith(byte[] prefix) {
+        if (prefix.length > gtridLength) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (data[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int getFormatId() {
+        return formatId;
+    }
+
+    @Override
+    public byte[] getGlobalTransactionId() {
+        return Arrays.copyOf(data, gtridLength);
+    }
+
+    @Override
+    public byte[] getBranchQualifier() {
+        byte[] bqual = new byte[branchQualifierLength()];
+        System.arraycopy(data, gtridLength, bqual, 0, bqualLength);
+        if (branch != NO_BRANCH) {
+            bqual[bqualLength] = (byte) (branch >>> 24);
+            bqual[bqualLength + 1] = (byte) (branch >>> 16);
+            bqual[bqualLength + 2] = (byte) (branch >>> 8);
+            bqual[bqualLength + 3] = (byte) branch;
+        }
+        return bqual;
+    }
+
+    private int branchQualifierLength() {
+        return branch == NO_BRANCH ? bqualLength : bqualLength + BRANCH_LENGTH;
+    }
+
+    private byte branchQualifierByte(int index) {
+        if (index < bqualLength) {
+            return data[gtridLength + index];
+        }
+        return (byte) (branch >>> (8 * (BRANCH_LENGTH - 1 - (index - bqualLength))));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CompactXid)) {
+            return false;
+        }
+        CompactXid other = (CompactXid) obj;
+        if (hash != other.hash || formatId != other.formatId || gtridLength != other.gtridLength) {
+            return false;
+        }
+        if (data == other.data && bqualLength == other.bqualLength) {
+            // Branches of the same global transaction only differ in their branch number
+            return branch == other.branch;
+        }
+        int length = branchQualifierLength();
+        if (length != other.branchQualifierLength()) {
+            return false;
+        }
+        if (data != other.data) {
+            for (int i = 0; i < gtridLength; i++) {
+                if (data[i] != other.data[i]) {
+                    return false;
+                }
+            }
+        }
+        for (int i = 0; i < length; i++) {
+            if (branchQualifierByte(i) != other.branchQualifierByte(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        int length = branchQualifierLength();
+        StringBuilder sb = new StringBuilder(16 + 2 * (gtridLength + length));
+        sb.append(Integer.toHexString(formatId)).append(':');
+        for (int i = 0; i < gtridLength; i++) {
+            appendHex(sb, data[i]);
+        }
+        sb.append(':');
+        for (int i = 0; i < length; i++) {
+            appendHex(sb, branchQualifierByte(i));
+        }
+        return sb.toString();
+    }
+
+    private static void appendHex(StringBuilder sb, byte b) {
+        sb.append(HEX[(b >> 4) & 0xf]).append(HEX[b & 0xf]);
+    }
+
+    /**
+     * The serialized form of a {@code CompactXid}. A new instance is created from the deserialized components, so that
+     * their lengths are validated and the instance does not share its backing array with any other object in the
+     * stream.
+     */
+    private static final class SerializedForm implements Serializable {
+
+        private static final long serialVersionUID = -3627120911466356925L;
+
+        private final int formatId;
+
+        private final byte[] gtrid;
+
+        private final byte[] bqual;
+
+        SerializedForm(int formatId, byte[] gtrid, byte[] bqual) {
+            this.formatId = formatId;
+            this.gtrid = gtrid;
+            this.bqual = bqual;
+        }
+
+        private Object readResolve() throws ObjectStreamException {
+            if (gtrid == null || bqual == null) {
+                throw new InvalidObjectException("Missing transaction identifier data");
+            }
+            try {
+                return XidFactory.create(formatId, gtrid, bqual);
+            } catch (IllegalArgumentException e) {
+                InvalidObjectException invalid = new InvalidObjectException(e.getMessage());
+                invalid.initCause(e);
+                throw invalid;
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.transaction.xa;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+/**
+ * Non-blocking view of a blocking {@link XAResource}, which invokes the resource on an executor. Calls are invoked one
+ * at a time and in the order in which they were made, since an {@code XAResource} is not required to be safe for use by
+ * multiple threads. {@link #isSameRM(AsyncXAResource)} is the exception: it is invoked on the calling thread, since it
+ * returns its result directly.
+ *
+ * @see AsyncXAResource#of(XAResource, Executor)
+ */
+final class ExecutorAsyncXAResource implements AsyncXAResource {
+
+    /**
+     * A call to a method of {@link XAResource}.
+     */
+    private interface Call<T> {
+        T invoke() throws XAException;
+    }
+
+    private final XAResource xaRes;
+
+    private final Executor executor;
+
+    /**
+     * Guards {@link #last}.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * The stage of the call made most recently, which the next call waits for.
+     */
+    private CompletableFuture<?> last = CompletableFuture.completedFuture(null);
+
+    ExecutorAsyncXAResource(XAResource xaRes, Executor executor) {
+        this.xaRes = xaRes;
+        this.executor = executor;
+    }
+
+    private <T> CompletionStage<T> submit(Call<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<?> previous;
+        synchronized (lock) {
+            previous = last;
+            last = result;
+        }
+        previous.whenComplete((value, failure) -> execute(call, result));
+        return result;
+    }
+
+    private <T> void execute(Call<T> call, CompletableFuture<T> result) {
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(call.invoke());
+                } catch (XAException e) {
+                    result.completeExceptionally(e);
+                } catch (Throwable t) {
+                    result.completeExceptionally(xaException(XAException.XAER_RMERR, t));
+                }
+            });
+        } catch (RuntimeException e) {
+            result.completeExceptionally(xaException(XAException.XAER_RMFAIL, e));
+        }
+    }
+
+    private static XAException xaException(int errorCode, Throwable cause) {
+        XAException xae = new XAException(errorCode);
+        xae.initCause(cause);
+        return xae;
+    }
+
+    @Override
+    public CompletionStage<Void> start(Xid xid, int flags) {
+        return submit(() -> {
+            xaRes.start(xid, flags);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletionStage<Void> end(Xid xid, int flags) {
+        return submit(() -> {
+            xaRes.end(xid, flags);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletionStage<Integer> prepare(Xid xid) {
+        return submit(() -> xaRes.prepare(xid));
+    }
+
+    @Override
+    public CompletionStage<Void> commit(Xid xid, boolean onePhase) {
+        return submit(() -> {
+            xaRes.commit(xid, onePhase);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletionStage<Void> rollback(Xid xid) {
+        return submit(() -> {
+            xaRes.rollback(xid);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletionStage<Void> forget(Xid xid) {
+        return submit(() -> {
+            xaRes.forget(xid);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletionStage<Xid[]> recover(int flag) {
+        return submit(() -> xaRes.recover(flag));
+    }
+
+    @Override
+    public boolean isSameRM(AsyncXAResource xares) throws XAException {
+        if (xares instanceof ExecutorAsyncXAResource) {
+            return xaRes.isSameRM(((ExecutorAsyncXAResource) xares).xaRes);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.transaction.xa;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+/**
+ * <p>
+ * Marks an {@code XAResource} whose resource manager supports only a one-phase commit protocol, for example a JDBC
+ * connection that takes part in the transaction through a local transaction.
+ * </p>
+ *
+ * <p>
+ * A transaction may have at most one enlisted {@code LastResource}. When the transaction is committed, the transaction
+ * manager first prepares every other participant. If all of them vote to commit, the transaction manager invokes
+ * {@link #commit(Xid, boolean) commit} on the last resource with {@code onePhase} set to {@code true}; the outcome of
+ * that call is the commit decision for the transaction, which the transaction manager then applies to the other
+ * participants. The transaction manager never invokes {@link #prepare(Xid)} on a last resource.
+ * </p>
+ *
+ * <p>
+ * If the one-phase commit fails with one of the {@code XA_RB*} error codes, the transaction manager rolls back the other
+ * participants and reports that the transaction was rolled back. If the outcome of the one-phase commit is unknown, for
+ * example because it fails with {@link XAException#XAER_RMFAIL} or {@link XAException#XA_HEURHAZ}, the transaction
+ * manager rolls back the other participants and reports the heuristic hazard by throwing
+ * {@link jakarta.transaction.HeuristicMixedException} from the commit method.
+ * </p>
+ *
+ * <p>
+ * If the one-phase commit succeeds, the transaction manager makes its commit record for the transaction durable before
+ * it commits any other participant.
+ * </p>
+ *
+ * <p>
+ * Since the resource manager of a last resource does not keep a record of prepared transaction branches, a last
+ * resource does not take part in failure recovery, and its {@link #recover(int)} method may return an empty array. If
+ * the transaction manager fails after the one-phase commit completes but before its commit record is durable, failure
+ * recovery rolls back the other participants, and the resulting heuristic hazard is neither detected nor reported. A
+ * {@link LoggingLastResource} avoids this, since the commit record becomes durable together with the one-phase commit.
+ * </p>
+ *
+ * @version Jakarta Transactions 2.1
+ * @since 2.1
+ */
+public interface LastResource extends XAResource {
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.transaction.xa;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.Xid;
+
+/**
+ * <p>
+ * A {@link LastResource} that can store the commit record of the transaction manager in its own local transaction, for
+ * example in a table of the database of a JDBC connection.
+ * </p>
+ *
+ * <p>
+ * When a transaction is committed, the transaction manager prepares every other participant and then invokes
+ * {@link #logCommitDecision(Xid)} followed by {@link #commit(Xid, boolean) commit} with {@code onePhase} set to
+ * {@code true}. The commit record is therefore made durable by the same local commit as the work of the last resource,
+ * and the transaction manager does not need to write the commit decision to a log of its own.
+ * </p>
+ *
+ * <p>
+ * If the outcome of the one-phase commit is unknown, the transaction manager determines it from
+ * {@link #recoverCommitDecisions()} once the resource manager is available again, instead of reporting a heuristic
+ * hazard. During failure recovery, a prepared transaction branch of another resource manager is committed if its global
+ * transaction has a commit record, and rolled back otherwise. A commit record only becomes visible when the local
+ * commit of the last resource completes, so recovery must not decide a branch whose transaction is still active in the
+ * transaction manager, or for which the one-phase commit of the last resource may still be in progress; such a branch is
+ * completed by the transaction that owns it.
+ * </p>
+ *
+ * @version Jakarta Transactions 2.1
+ * @since 2.1
+ */
+public interface LoggingLastResource extends LastResource {
+
+    /**
+     * Stores the commit record of the global transaction of the given xid as part of the work of the transaction branch.
+     * The record becomes durable when, and only when, the transaction branch is committed.
+     *
+     * @param xid The identifier of the transaction branch of this resource.
+     *
+     * @exception XAException An error has occurred. Possible exception values are XAER_RMERR, XAER_RMFAIL, XAER_NOTA,
+     * or XAER_PROTO. If this method fails, the transaction manager rolls back the transaction.
+     */
+    void logCommitDecision(Xid xid) throws XAException;
+
+    /**
+     * Obtains the global transactions for which a commit record has been stored and not yet forgotten.
+     *
+     * @return The identifiers of the transactions that were committed. The branch qualifiers of the returned identifiers
+     * are not significant.
+     *
+     * @exception XAException An error has occurred. Possible exception values are XAER_RMERR and XAER_RMFAIL.
+     */
+    Xid[] recoverCommitDecisions() throws XAException;
+
+    /**
+     * Removes the commit records of the given global transactions. The transaction manager invokes this method, outside
+     * of any global transaction, once every participant of each of the transactions has committed; it may remove the
+     * records of several transactions at once.
+     *
+     * @param xids The identifiers of the transactions whose commit records are no longer needed.
+     *
+     * @exception XAException An error has occurred. Possible exception values are XAER_RMERR and XAER_RMFAIL.
+     */
+    void forgetCommitDecisions(Xid[] xids) throws XAException;
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.transaction.xa;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.transaction.xa.Xid;
+
+/**
+ * <p>
+ * Creates {@link CompactXid} transaction identifiers for a transaction manager.
+ * </p>
+ *
+ * <p>
+ * A global transaction identifier created by a factory consists of the node identifier of the factory, followed by an
+ * 8 byte epoch and an 8 byte sequence number. The epoch is drawn from a {@link SecureRandom} once, when the factory is
+ * created, so that identifiers remain unique across restarts of the transaction manager; the sequence number is taken
+ * from a counter. Creating an identifier therefore does not require a call to a random number generator.
+ * </p>
+ *
+ * <p>
+ * The node identifier must be stable across restarts so that, during recovery, the transaction manager can use
+ * {@link #owns(Xid)} to ignore transactions that do not belong to it.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are safe for use by multiple threads.
+ * </p>
+ *
+ * @version Jakarta Transactions 2.1
+ * @since 2.1
+ */
+public final class XidFactory {
+
+    private static final int EPOCH_LENGTH = 8;
+
+    private static final int SEQUENCE_LENGTH = 8;
+
+    /**
+     * The maximum length of a node identifier.
+     */
+    public static final int MAX_NODE_ID_SIZE = Xid.MAXGTRIDSIZE - EPOCH_LENGTH - SEQUENCE_LENGTH;
+
+    private final int formatId;
+
+    private final byte[] nodeId;
+
+    /**
+     * The node identifier followed by the epoch, copied in front of every global transaction identifier.
+     */
+    private final byte[] prefix;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Create a factory for transaction identifiers with the given format identifier and node identifier.
+     *
+     * @param formatId The format identifier of the transaction identifiers created by this factory.
+     *
+     * @param nodeId Identifies the transaction manager. It must be between 1 and {@link #MAX_NODE_ID_SIZE} bytes long.
+     *
+     * @exception IllegalArgumentException Thrown if the format identifier is -1, which denotes the null {@code Xid}, or the
+     * length of the node identifier is out of range.
+     */
+    public XidFactory(int formatId, byte[] nodeId) {
+        if (formatId == -1) {
+            throw new IllegalArgumentException("Format identifier -1 is reserved for the null Xid");
+        }
+        if (nodeId.length == 0 || nodeId.length > MAX_NODE_ID_SIZE) {
+            throw new IllegalArgumentException("Node identifier must be between 1 and " + MAX_NODE_ID_SIZE + " bytes long");
+        }
+        this.formatId = formatId;
+        this.nodeId = nodeId.clone();
+
+        byte[] epoch = new byte[EPOCH_LENGTH];
+        new SecureRandom().nextBytes(epoch);
+        this.prefix = new byte[nodeId.length + EPOCH_LENGTH];
+        System.arraycopy(nodeId, 0, prefix, 0, nodeId.length);
+        System.arraycopy(epoch, 0, prefix, nodeId.length, EPOCH_LENGTH);
+    }
+
+    /**
+     * Create the identifier of a new global transaction. The branch qualifier of the returned identifier is empty;
+     * branches for the resource managers participating in the transaction are derived with
+     * {@link #createBranch(Xid, int)}.
+     *
+     * @return A new, unique transaction identifier.
+     */
+    public CompactXid createXid() {
+        long seq = sequence.incrementAndGet();
+        byte[] data = new byte[prefix.length + SEQUENCE_LENGTH];
+        System.arraycopy(prefix, 0, data, 0, prefix.length);
+        for (int i = data.length - 1; i >= prefix.length; i--) {
+            data[i] = (byte) seq;
+            seq >>>= 8;
+        }
+        return new CompactXid(formatId, data, data.length, 0, CompactXid.NO_BRANCH);
+    }
+
+    /**
+     * Derive a transaction branch of the global transaction identified by the given {@code Xid}. The branch qualifier of
+     * the returned identifier is the branch number in big-endian order. If {@code xid} is a {@code CompactXid}, the
+     * returned identifier shares its global transaction identifier instead of copying it.
+     *
+     * @param xid Identifies the global transaction.
+     *
+     * @param branch The branch number, for example the index of the resource manager in the transaction.
+     *
+     * @return The identifier of the transaction branch.
+     *
+     * @exception IllegalArgumentException Thrown if the branch number is negative.
+     */
+    public CompactXid createBranch(Xid xid, int branch) {
+        if (branch < 0) {
+            throw new IllegalArgumentException("Branch number must not be negative: " + branch);
+        }
+        return copyOf(xid).withBranch(branch);
+    }
+
+    /**
+     * Create a {@code CompactXid} with the same format identifier, global transaction identifier and branch qualifier as
+     * the given {@code Xid}, for example to look up a {@code Xid} returned by
+     * {@link javax.transaction.xa.XAResource#recover(int)}.
+     *
+     * @param xid The transaction identifier to copy.
+     *
+     * @return An equivalent {@code CompactXid}, or {@code xid} itself if it already is one.
+     *
+     * @exception IllegalArgumentException Thrown if the global transaction identifier or branch qualifier exceeds the
+     * maximum size defined by {@link Xid}.
+     */
+    public static CompactXid copyOf(Xid xid) {
+        if (xid instanceof CompactXid) {
+            return (CompactXid) xid;
+        }
+        return create(xid.getFormatId(), xid.getGlobalTransactionId(), xid.getBranchQualifier());
+    }
+
+    /**
+     * Create a {@code CompactXid} from its components.
+     *
+     * @param formatId The format identifier.
+     *
+     * @param gtrid The global transaction identifier.
+     *
+     * @param bqual The branch qualifier.
+     *
+     * @return A transaction identifier with the given components.
+     *
+     * @exception IllegalArgumentException Thrown if the global transaction identifier or branch qualifier exceeds the
+     * maximum size defined by {@link Xid}.
+     */
+    public static CompactXid create(int formatId, byte[] gtrid, byte[] bqual) {
+        if (gtrid.length > Xid.MAXGTRIDSIZE) {
+            throw new IllegalArgumentException("Global transaction identifier exceeds " + Xid.MAXGTRIDSIZE + " bytes");
+        }
+        if (bqual.length > Xid.MAXBQUALSIZE) {
+            throw new IllegalArgumentException("Branch qualifier exceeds " + Xid.MAXBQUALSIZE + " bytes");
+        }
+        byte[] data = new byte[gtrid.length + bqual.length];
+        System.arraycopy(gtrid, 0, data, 0, gtrid.length);
+        System.arraycopy(bqual, 0, data, gtrid.length, bqual.length);
+        return new CompactXid(formatId, data, gtrid.length, bqual.length, CompactXid.NO_BRANCH);
+    }
+
+    /**
+     * Indicates if the given {@code Xid} was created by a factory with the same format identifier and node identifier as
+     * this factory, in this or an earlier run of the transaction manager.
+     *
+     * @param xid The transaction identifier to test.
+     *
+     * @return {@code true} if the transaction belongs to this transaction manager; otherwise {@code false}.
+     */
+    public boolean owns(Xid xid) {
+        if (xid.getFormatId() != formatId) {
+            return false;
+        }
+        if (xid instanceof CompactXid) {
+            CompactXid compact = (CompactXid) xid;
+            return compact.globalTransactionIdLength() == prefix.length + SEQUENCE_LENGTH
+                    && compact.globalTransactionIdStartsWith(nodeId);
+        }
+        byte[] gtrid = xid.getGlobalTransactionId();
+        if (gtrid.length != prefix.length + SEQUENCE_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < nodeId.length; i++) {
+            if (gtrid[i] != nodeId[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
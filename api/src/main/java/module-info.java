@@ -1,8 +1,12 @@
 module jakarta.transaction {
     requires java.rmi;
     requires transitive java.transaction.xa;
-    requires transitive jakarta.cdi;
-    requires jakarta.interceptor;
+
+    // Only needed by the Transactional, TransactionScoped and NonPassivatingTransactionScoped
+    // annotations, so that applications using the transaction manager without CDI need not
+    // provide these modules
+    requires static jakarta.cdi;
+    requires static jakarta.interceptor;
 
     exports jakarta.transaction;
     exports jakarta.transaction.xa;
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.transaction;
+
+import static jakarta.transaction.Status.STATUS_ACTIVE;
+import static jakarta.transaction.Status.STATUS_COMMITTED;
+import static jakarta.transaction.Status.STATUS_COMMITTING;
+import static jakarta.transaction.Status.STATUS_MARKED_ROLLBACK;
+import static jakarta.transaction.Status.STATUS_NO_TRANSACTION;
+import static jakarta.transaction.Status.STATUS_PREPARED;
+import static jakarta.transaction.Status.STATUS_PREPARING;
+import static jakarta.transaction.Status.STATUS_ROLLEDBACK;
+import static jakarta.transaction.Status.STATUS_ROLLING_BACK;
+import static jakarta.transaction.Status.STATUS_UNKNOWN;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class StatusTest {
+
+    private static final int[] STATUSES = { STATUS_ACTIVE, STATUS_MARKED_ROLLBACK, STATUS_PREPARED, STATUS_COMMITTED,
+            STATUS_ROLLEDBACK, STATUS_UNKNOWN, STATUS_NO_TRANSACTION, STATUS_PREPARING, STATUS_COMMITTING,
+            STATUS_ROLLING_BACK };
+
+    @Test
+    public void transitionsMatchTheDocumentedTable() {
+        for (int from : STATUSES) {
+            for (int to : STATUSES) {
+                assertEquals(expected(from, to), Status.isValidTransition(from, to), from + " -> " + to);
+            }
+        }
+    }
+
+    @Test
+    public void commitAndRollbackPaths() {
+        assertPath(STATUS_NO_TRANSACTION, STATUS_ACTIVE, STATUS_PREPARING, STATUS_PREPARED, STATUS_COMMITTING,
+                STATUS_COMMITTED, STATUS_NO_TRANSACTION);
+        assertPath(STATUS_ACTIVE, STATUS_PREPARED, STATUS_COMMITTED);
+        assertPath(STATUS_ACTIVE, STATUS_COMMITTED);
+        assertPath(STATUS_ACTIVE, STATUS_MARKED_ROLLBACK, STATUS_ROLLING_BACK, STATUS_ROLLEDBACK,
+                STATUS_NO_TRANSACTION);
+        assertPath(STATUS_COMMITTING, STATUS_UNKNOWN, STATUS_COMMITTED);
+    }
+
+    @Test
+    public void illegalTransitions() {
+        assertFalse(Status.isValidTransition(STATUS_COMMITTED, STATUS_ACTIVE));
+        assertFalse(Status.isValidTransition(STATUS_MARKED_ROLLBACK, STATUS_COMMITTING));
+        assertFalse(Status.isValidTransition(STATUS_PREPARED, STATUS_ACTIVE));
+        assertFalse(Status.isValidTransition(STATUS_ACTIVE, STATUS_ACTIVE));
+        assertFalse(Status.isValidTransition(STATUS_NO_TRANSACTION, STATUS_UNKNOWN));
+        assertFalse(Status.isValidTransition(STATUS_UNKNOWN, STATUS_ACTIVE));
+        assertFalse(Status.isValidTransition(STATUS_UNKNOWN, STATUS_PREPARING));
+        assertFalse(Status.isValidTransition(STATUS_UNKNOWN, STATUS_MARKED_ROLLBACK));
+        assertFalse(Status.isValidTransition(-1, STATUS_ACTIVE));
+        assertFalse(Status.isValidTransition(STATUS_ACTIVE, 10));
+    }
+
+    private static void assertPath(int... statuses) {
+        for (int i = 1; i < statuses.length; i++) {
+            assertTrue(Status.isValidTransition(statuses[i - 1], statuses[i]), statuses[i - 1] + " -> " + statuses[i]);
+        }
+    }
+
+    /**
+     * The legal transitions, as listed in the javadoc of {@link Status#isValidTransition(int, int)}.
+     */
+    private static boolean expected(int from, int to) {
+        if (from == to) {
+            return false;
+        }
+        if (to == STATUS_UNKNOWN) {
+            return from != STATUS_NO_TRANSACTION && from != STATUS_COMMITTED && from != STATUS_ROLLEDBACK;
+        }
+        switch (from) {
+        case STATUS_NO_TRANSACTION:
+            return to == STATUS_ACTIVE;
+        case STATUS_ACTIVE:
+            return to != STATUS_NO_TRANSACTION;
+        case STATUS_MARKED_ROLLBACK:
+            return to == STATUS_ROLLING_BACK || to == STATUS_ROLLEDBACK;
+        case STATUS_PREPARING:
+            return to != STATUS_ACTIVE && to != STATUS_NO_TRANSACTION;
+        case STATUS_PREPARED:
+            return to == STATUS_COMMITTING || to == STATUS_COMMITTED || to == STATUS_ROLLING_BACK
+                    || to == STATUS_ROLLEDBACK;
+        case STATUS_COMMITTING:
+            return to == STATUS_COMMITTED || to == STATUS_ROLLEDBACK;
+        case STATUS_ROLLING_BACK:
+            return to == STATUS_ROLLEDBACK || to == STATUS_COMMITTED;
+        case STATUS_COMMITTED:
+        case STATUS_ROLLEDBACK:
+            return to == STATUS_NO_TRANSACTION;
+        case STATUS_UNKNOWN:
+            return to == STATUS_PREPARED || to == STATUS_COMMITTING || to == STATUS_ROLLING_BACK
+                    || to == STATUS_COMMITTED || to == STATUS_ROLLEDBACK || to == STATUS_NO_TRANSACTION;
+        default:
+            return false;
+        }
+    }
+}
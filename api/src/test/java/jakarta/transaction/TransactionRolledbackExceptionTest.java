@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+public class TransactionRolledbackExceptionTest {
+
+    @Test
+    public void withoutStackTraceHasNoStackTrace() {
+        IllegalStateException cause = new IllegalStateException("cause");
+        TransactionRolledbackException exception = TransactionRolledbackException.withoutStackTrace("rolled back",
+                cause);
+        assertEquals(0, exception.getStackTrace().length);
+        assertSame(cause, exception.getCause());
+        assertTrue(exception.getMessage().startsWith("rolled back"), exception.getMessage());
+        assertSame(exception, exception.fillInStackTrace());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    public void serializedAsTransactionRolledbackException() throws Exception {
+        TransactionRolledbackException exception = TransactionRolledbackException.withoutStackTrace("rolled back",
+                new IllegalStateException("cause"));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(exception);
+        }
+        Object read;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            read = in.readObject();
+        }
+        assertSame(TransactionRolledbackException.class, read.getClass());
+        TransactionRolledbackException copy = (TransactionRolledbackException) read;
+        assertEquals(exception.getMessage(), copy.getMessage());
+        assertEquals("cause", copy.getCause().getMessage());
+        assertEquals(0, copy.getStackTrace().length);
+    }
+}
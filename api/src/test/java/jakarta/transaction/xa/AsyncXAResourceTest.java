@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.transaction.xa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncXAResourceTest {
+
+    private final Xid xid = XidFactory.create(1, new byte[] { 1 }, new byte[] { 2 });
+
+    @Test
+    public void callsOnOneResourceAreInvokedInOrderAndOneAtATime() throws Exception {
+        List<String> calls = Collections.synchronizedList(new ArrayList<String>());
+        AtomicInteger running = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean();
+        XAResource xaRes = resource((proxy, method, args) -> {
+            if (running.incrementAndGet() > 1) {
+                overlapped.set(true);
+            }
+            Thread.sleep(5);
+            calls.add(method.getName());
+            running.decrementAndGet();
+            return method.getName().equals("prepare") ? XAResource.XA_OK : null;
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            AsyncXAResource asyncRes = AsyncXAResource.of(xaRes, executor);
+            asyncRes.start(xid, XAResource.TMNOFLAGS);
+            asyncRes.end(xid, XAResource.TMSUCCESS);
+            asyncRes.prepare(xid);
+            asyncRes.commit(xid, false).toCompletableFuture().get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(Arrays.asList("start", "end", "prepare", "commit"), calls);
+        assertFalse(overlapped.get(), "calls overlapped");
+    }
+
+    @Test
+    public void uncheckedExceptionIsReportedAsXAException() throws Exception {
+        XAResource xaRes = resource((proxy, method, args) -> {
+            throw new IllegalStateException("driver failure");
+        });
+        AsyncXAResource asyncRes = AsyncXAResource.of(xaRes, Runnable::run);
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> asyncRes.rollback(xid).toCompletableFuture().get());
+        assertTrue(e.getCause() instanceof XAException);
+        assertEquals(XAException.XAER_RMERR, ((XAException) e.getCause()).errorCode);
+
+        // A failed call does not prevent later calls
+        XAException again = assertThrows(XAException.class, () -> AsyncXAResource.toXAResource(asyncRes).forget(xid));
+        assertEquals(XAException.XAER_RMERR, again.errorCode);
+    }
+
+    @Test
+    public void blockingViewReturnsResultsAndRethrowsXAException() throws Exception {
+        XAResource xaRes = resource((proxy, method, args) -> {
+            if (method.getName().equals("commit")) {
+                throw new XAException(XAException.XA_HEURMIX);
+            }
+            return method.getName().equals("prepare") ? XAResource.XA_RDONLY : null;
+        });
+        XAResource blocking = AsyncXAResource.toXAResource(AsyncXAResource.of(xaRes, Runnable::run));
+
+        assertEquals(XAResource.XA_RDONLY, blocking.prepare(xid));
+        XAException e = assertThrows(XAException.class, () -> blocking.commit(xid, false));
+        assertEquals(XAException.XA_HEURMIX, e.errorCode);
+    }
+
+    @Test
+    public void rejectedCallIsReportedAsResourceManagerFailure() throws Exception {
+        XAResource xaRes = resource((proxy, method, args) -> null);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        XAResource blocking = AsyncXAResource.toXAResource(AsyncXAResource.of(xaRes, executor));
+
+        XAException e = assertThrows(XAException.class, () -> blocking.rollback(xid));
+        assertEquals(XAException.XAER_RMFAIL, e.errorCode);
+    }
+
+    private static XAResource resource(InvocationHandler handler) {
+        return (XAResource) Proxy.newProxyInstance(XAResource.class.getClassLoader(), new Class<?>[] { XAResource.class },
+                handler);
+    }
+}
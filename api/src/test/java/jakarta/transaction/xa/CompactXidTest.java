@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.transaction.xa;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import javax.transaction.xa.Xid;
+
+import org.junit.jupiter.api.Test;
+
+public class CompactXidTest {
+
+    private static final int FORMAT_ID = 0x4a544131;
+
+    private final XidFactory factory = new XidFactory(FORMAT_ID, new byte[] { 1, 2, 3 });
+
+    @Test
+    public void branchesOfTheSameTransactionShareGlobalTransactionId() {
+        CompactXid xid = factory.createXid();
+        CompactXid first = factory.createBranch(xid, 1);
+        CompactXid again = factory.createBranch(xid, 1);
+        CompactXid second = factory.createBranch(xid, 2);
+
+        assertEquals(first, again);
+        assertEquals(first.hashCode(), again.hashCode());
+        assertNotEquals(first, second);
+        assertNotEquals(xid, first);
+        assertArrayEquals(xid.getGlobalTransactionId(), second.getGlobalTransactionId());
+        assertArrayEquals(new byte[] { 0, 0, 0, 2 }, second.getBranchQualifier());
+        assertArrayEquals(new byte[0], xid.getBranchQualifier());
+    }
+
+    @Test
+    public void branchEqualsCopyOfForeignXid() {
+        CompactXid branch = factory.createBranch(factory.createXid(), 0x01020304);
+        Xid foreign = new SimpleXid(branch.getFormatId(), branch.getGlobalTransactionId(), branch.getBranchQualifier());
+        CompactXid copy = XidFactory.copyOf(foreign);
+
+        assertArrayEquals(new byte[] { 1, 2, 3, 4 }, branch.getBranchQualifier());
+        assertEquals(branch, copy);
+        assertEquals(copy, branch);
+        assertEquals(branch.hashCode(), copy.hashCode());
+        assertEquals(branch.toString(), copy.toString());
+        assertSame(branch, XidFactory.copyOf(branch));
+    }
+
+    @Test
+    public void branchOfCopyEqualsBranchOfOriginal() {
+        CompactXid xid = factory.createXid();
+        CompactXid copy = XidFactory.create(FORMAT_ID, xid.getGlobalTransactionId(), new byte[0]);
+
+        assertEquals(factory.createBranch(xid, 7), factory.createBranch(copy, 7));
+        assertEquals(factory.createBranch(xid, 7).hashCode(), factory.createBranch(copy, 7).hashCode());
+    }
+
+    @Test
+    public void differentComponentsAreNotEqual() {
+        CompactXid xid = XidFactory.create(FORMAT_ID, new byte[] { 1, 2 }, new byte[] { 3 });
+
+        assertNotEquals(xid, XidFactory.create(FORMAT_ID + 1, new byte[] { 1, 2 }, new byte[] { 3 }));
+        assertNotEquals(xid, XidFactory.create(FORMAT_ID, new byte[] { 1, 2, 3 }, new byte[0]));
+        assertNotEquals(xid, XidFactory.create(FORMAT_ID, new byte[] { 1, 2 }, new byte[] { 4 }));
+    }
+
+    @Test
+    public void factoryOwnsOnlyItsOwnTransactions() {
+        CompactXid xid = factory.createXid();
+        XidFactory restarted = new XidFactory(FORMAT_ID, new byte[] { 1, 2, 3 });
+        XidFactory other = new XidFactory(FORMAT_ID, new byte[] { 1, 2, 4 });
+
+        assertTrue(restarted.owns(xid));
+        assertTrue(restarted.owns(new SimpleXid(FORMAT_ID, xid.getGlobalTransactionId(), new byte[0])));
+        assertFalse(other.owns(xid));
+        assertFalse(factory.owns(XidFactory.create(FORMAT_ID, new byte[] { 1, 2, 3 }, new byte[0])));
+    }
+
+    @Test
+    public void serializationPreservesEquality() throws Exception {
+        CompactXid branch = factory.createBranch(factory.createXid(), 3);
+        CompactXid copy = (CompactXid) deserialize(serialize(branch));
+
+        assertEquals(branch, copy);
+        assertEquals(branch.hashCode(), copy.hashCode());
+    }
+
+    @Test
+    public void serializationOfBranchOfXidWithBranchQualifier() throws Exception {
+        CompactXid xid = XidFactory.create(7, new byte[] { 9, 8, 7 }, new byte[] { 0, 0, 0, 1 });
+        CompactXid branch = factory.createBranch(xid, 2);
+        byte[] bytes = serialize(branch);
+        CompactXid copy = (CompactXid) deserialize(bytes);
+
+        assertArrayEquals(new byte[] { 0, 0, 0, 2 }, branch.getBranchQualifier());
+        assertEquals(branch, copy);
+        assertEquals(branch.hashCode(), copy.hashCode());
+        assertArrayEquals(new byte[] { 9, 8, 7 }, copy.getGlobalTransactionId());
+        assertArrayEquals(new byte[] { 0, 0, 0, 2 }, copy.getBranchQualifier());
+        // The branch qualifier of the original Xid is not written to the stream
+        assertEquals(-1, indexOf(bytes, new byte[] { 9, 8, 7, 0, 0, 0, 1 }));
+    }
+
+    @Test
+    public void deserializationRejectsInvalidLengths() throws Exception {
+        byte[] gtrid = new byte[Xid.MAXGTRIDSIZE];
+        for (int i = 0; i < gtrid.length; i++) {
+            gtrid[i] = (byte) (i + 1);
+        }
+        byte[] bytes = serialize(XidFactory.create(FORMAT_ID, gtrid, new byte[0]));
+        // Lengthen the serialized global transaction identifier by one byte
+        int offset = indexOf(bytes, gtrid);
+        byte[] tampered = new byte[bytes.length + 1];
+        System.arraycopy(bytes, 0, tampered, 0, offset + gtrid.length);
+        System.arraycopy(bytes, offset + gtrid.length, tampered, offset + gtrid.length + 1,
+                bytes.length - offset - gtrid.length);
+        tampered[offset - 1] = Xid.MAXGTRIDSIZE + 1;
+
+        assertThrows(InvalidObjectException.class, () -> deserialize(tampered));
+    }
+
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+
+    private static int indexOf(byte[] bytes, byte[] pattern) {
+        for (int i = 0; i <= bytes.length - pattern.length; i++) {
+            int j = 0;
+            while (j < pattern.length && bytes[i + j] == pattern[j]) {
+                j++;
+            }
+            if (j == pattern.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static final class SimpleXid implements Xid {
+
+        private final int formatId;
+
+        private final byte[] gtrid;
+
+        private final byte[] bqual;
+
+        SimpleXid(int formatId, byte[] gtrid, byte[] bqual) {
+            this.formatId = formatId;
+            this.gtrid = gtrid;
+            this.bqual = bqual;
+        }
+
+        @Override
+        public int getFormatId() {
+            return formatId;
+        }
+
+        @Override
+        public byte[] getGlobalTransactionId() {
+            return gtrid;
+        }
+
+        @Override
+        public byte[] getBranchQualifier() {
+            return bqual;
+        }
+    }
+}
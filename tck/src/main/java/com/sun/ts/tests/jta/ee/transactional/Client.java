@@ -27,7 +27,9 @@ import jakarta.transaction.RollbackException;
 import jakarta.transaction.Status;
 import jakarta.transaction.SystemException;
 import jakarta.transaction.TransactionRequiredException;
+import jakarta.transaction.Transactional;
 import jakarta.transaction.TransactionalException;
+import jakarta.transaction.TransactionalRollbackPolicy;
 import jakarta.transaction.UserTransaction;
 
 import java.util.Arrays;
@@ -45,6 +47,9 @@ public class Client extends EJBLiteClientBase {
     @Inject
     TransactionScopedBean tscopedBean;
 
+    @Inject
+    NonPassivatingTransactionScopedBean ntscopedBean;
+
     @Resource(lookup = "java:comp/UserTransaction")
     private UserTransaction ut;
 
@@ -774,6 +779,77 @@ public class Client extends EJBLiteClientBase {
 
     }
 
+    /*
+     * @testName: rollbackPolicyMatchesAnnotation
+     *
+     * @test_Strategy: A TransactionalRollbackPolicy obtained from the Transactional annotation of a method must decide
+     * exceptions as the Transactional interceptor does: rollbackOn causes rollback for the designated checked exceptions,
+     * dontRollbackOn takes precedence over rollbackOn, also when it designates a superclass of a rollbackOn class, the
+     * designated behavior applies to subclasses as well, and otherwise RuntimeException and its subclasses cause rollback
+     * while checked exceptions do not.
+     *
+     */
+    public void rollbackPolicyMatchesAnnotation() throws Exception {
+        StringBuilder sb = new StringBuilder();
+
+        TransactionalRollbackPolicy rollbackOn = TransactionalRollbackPolicy
+                .of(OneManagedBean.class.getMethod("rollbackOnException").getAnnotation(Transactional.class));
+        TransactionalRollbackPolicy rollbackOnChecked = TransactionalRollbackPolicy
+                .of(OneManagedBean.class.getMethod("rollbackOnCheckedException").getAnnotation(Transactional.class));
+        TransactionalRollbackPolicy dontRollbackOn = TransactionalRollbackPolicy
+                .of(OneManagedBean.class.getMethod("dontRollbackOnException").getAnnotation(Transactional.class));
+        TransactionalRollbackPolicy rollbackAndDontRollback = TransactionalRollbackPolicy
+                .of(OneManagedBean.class.getMethod("rollbackAndDontRollback").getAnnotation(Transactional.class));
+        TransactionalRollbackPolicy dontRollbackOnSuperclass = TransactionalRollbackPolicy.of(OneManagedBean.class
+                .getMethod("rollbackOnAndDontRollbackOnSuperclass").getAnnotation(Transactional.class));
+        TransactionalRollbackPolicy defaults = TransactionalRollbackPolicy
+                .of(OneManagedBean.class.getMethod("txTypeRequired").getAnnotation(Transactional.class));
+
+        // Each decision is checked twice, so that the cached decision is verified as well
+        for (int i = 0; i < 2; i++) {
+            Helper.assertEquals("rollbackOnException with CTSRollbackException", true,
+                    rollbackOn.isRollbackRequired(new CTSRollbackException("rollbackOn")), sb);
+            Helper.assertEquals("rollbackOnException with checked Exception", false,
+                    rollbackOn.isRollbackRequired(new Exception("checked")), sb);
+
+            Helper.assertEquals("rollbackOnCheckedException with CTSCheckedException", true,
+                    rollbackOnChecked.isRollbackRequired(new CTSCheckedException("rollbackOn checked")), sb);
+            Helper.assertEquals("rollbackOnCheckedException with subclass of CTSCheckedException", true,
+                    rollbackOnChecked.isRollbackRequired(new CTSCheckedException("rollbackOn checked subclass") {
+                    }), sb);
+            Helper.assertEquals("rollbackOnCheckedException with other checked Exception", false,
+                    rollbackOnChecked.isRollbackRequired(new Exception("checked")), sb);
+            Helper.assertEquals("rollbackOnCheckedException with RuntimeException", true,
+                    rollbackOnChecked.isRollbackRequired(new RuntimeException("runtime")), sb);
+
+            Helper.assertEquals("dontRollbackOnException with CTSDontRollbackException", false,
+                    dontRollbackOn.isRollbackRequired(new CTSDontRollbackException("dontRollbackOn")), sb);
+            Helper.assertEquals("dontRollbackOnException with subclass of CTSDontRollbackException", false,
+                    dontRollbackOn.isRollbackRequired(new CTSDontRollbackException("dontRollbackOn subclass") {
+                    }), sb);
+            Helper.assertEquals("dontRollbackOnException with CTSRollbackException", true,
+                    dontRollbackOn.isRollbackRequired(new CTSRollbackException("runtime")), sb);
+
+            Helper.assertEquals("rollbackAndDontRollback with CTSRollbackException", false,
+                    rollbackAndDontRollback.isRollbackRequired(new CTSRollbackException("both")), sb);
+
+            Helper.assertEquals("rollbackOnAndDontRollbackOnSuperclass with CTSCheckedException", false,
+                    dontRollbackOnSuperclass.isRollbackRequired(new CTSCheckedException("superclass")), sb);
+            Helper.assertEquals("rollbackOnAndDontRollbackOnSuperclass with RuntimeException", false,
+                    dontRollbackOnSuperclass.isRollbackRequired(new RuntimeException("superclass")), sb);
+
+            Helper.assertEquals("txTypeRequired with RuntimeException", true,
+                    defaults.isRollbackRequired(new RuntimeException("runtime")), sb);
+            Helper.assertEquals("txTypeRequired with checked Exception", false,
+                    defaults.isRollbackRequired(new Exception("checked")), sb);
+        }
+        Helper.assertEquals("txTypeRequired uses the default policy", TransactionalRollbackPolicy.defaultPolicy(), defaults,
+                sb);
+
+        Helper.getLogger().log(INFO, sb.toString());
+        appendReason(sb.toString());
+    }
+
     /*
      * @testName: transactionScopedBean_withoutTransaction
      *
@@ -852,6 +928,114 @@ public class Client extends EJBLiteClientBase {
         }
     }
 
+    /*
+     * @testName: transactionScopedBean_suspendResume
+     *
+     * @test_Strategy:
+     *
+     * The object with the jakarta.transaction.TransactionScoped annotation will be associated with the current active JTA
+     * transaction when the object is used. This association must be retained through any transaction suspend or resume
+     * calls. The contextual references used across different JTA transactions are distinct.
+     *
+     * The transaction is suspended and resumed by the Transactional interceptor of a TxType.REQUIRES_NEW method, which
+     * uses the TransactionScopedBean in its own transaction.
+     */
+    public void transactionScopedBean_suspendResume() throws Exception {
+        StringBuilder sb = new StringBuilder();
+
+        ut.begin();
+        try {
+            int outer = tscopedBean.getInstanceId();
+            Helper.assertEquals("Same instance within the transaction", outer, tscopedBean.getInstanceId(), sb);
+
+            int inner = one.transactionScopedInstanceRequiresNew();
+            Helper.assertNotEquals("Distinct instance in the REQUIRES_NEW transaction", outer, inner, sb);
+
+            Helper.assertEquals("Same instance after the transaction is resumed", outer, tscopedBean.getInstanceId(), sb);
+        } finally {
+            ut.commit();
+        }
+
+        Helper.getLogger().log(INFO, sb.toString());
+        appendReason(sb.toString());
+    }
+
+    /*
+     * @testName: nonPassivatingTransactionScopedBean_withoutTransaction
+     *
+     * @test_Strategy:
+     *
+     * The jakarta.transaction.NonPassivatingTransactionScoped annotation specifies a standard CDI scope that is not
+     * passivating and otherwise behaves as the scope defined by jakarta.transaction.TransactionScoped. The bean used by
+     * this test is not serializable.
+     *
+     * A jakarta.enterprise.context.ContextNotActiveException must be thrown if a bean with this annotation is used when the
+     * transaction context is not active.
+     */
+    public void nonPassivatingTransactionScopedBean_withoutTransaction() throws Exception {
+
+        String result = "ContextNotActiveException not received";
+
+        try {
+            Helper.getLogger().info("Invoking NonPassivatingTransactionScopedBean.test() without a transaction Context");
+            ntscopedBean.test();
+        } catch (ContextNotActiveException te) {
+            result = "Received expected ContextNotActiveException";
+
+        } catch (Exception e) {
+            result = "Received unexcepted Exception :" + e.getClass();
+            e.printStackTrace();
+        }
+
+        if (result.equals("Received expected ContextNotActiveException")) {
+            Helper.getLogger().log(INFO, result);
+            appendReason(result);
+        } else {
+            throw new Exception(result);
+        }
+    }
+
+    /*
+     * @testName: nonPassivatingTransactionScopedBean_withTransaction
+     *
+     * @test_Strategy:
+     *
+     * The jakarta.transaction.NonPassivatingTransactionScoped annotation specifies a standard CDI scope that is not
+     * passivating and otherwise behaves as the scope defined by jakarta.transaction.TransactionScoped. The bean used by
+     * this test is not serializable.
+     *
+     * The scope is active in the same transaction states as the TransactionScoped scope, so both scopes can be used in
+     * the same transaction, each with its own contextual instances. A contextual instance is associated with the current
+     * transaction, and the contextual instances of different transactions are distinct.
+     */
+    public void nonPassivatingTransactionScopedBean_withTransaction() throws Exception {
+        StringBuilder sb = new StringBuilder();
+
+        int first;
+        ut.begin();
+        try {
+            Helper.getLogger().info("Invoking NonPassivatingTransactionScopedBean.test() with a transaction Context");
+            Helper.assertEquals("NonPassivatingTransactionScoped bean is active",
+                    "NonPassivatingTransactionScopedBean.test called with active transaction", ntscopedBean.test(), sb);
+            Helper.assertEquals("TransactionScoped bean is active in the same transaction",
+                    "TransactionScopedBean.test called with active transaction", tscopedBean.test(), sb);
+            first = ntscopedBean.getInstanceId();
+            Helper.assertEquals("Same instance within the transaction", first, ntscopedBean.getInstanceId(), sb);
+        } finally {
+            ut.commit();
+        }
+
+        ut.begin();
+        try {
+            Helper.assertNotEquals("Distinct instance in another transaction", first, ntscopedBean.getInstanceId(), sb);
+        } finally {
+            ut.commit();
+        }
+
+        Helper.getLogger().log(INFO, sb.toString());
+        appendReason(sb.toString());
+    }
+
     /*
      * @testName: getInterceptorPriorityForTxTypeRequired
      *
@@ -68,8 +68,10 @@ public class ClientEjblitejspTest extends com.sun.ts.tests.jta.ee.transactional.
                 ServiceEETest.class, com.sun.ts.tests.jta.ee.transactional.OneManagedQualifier.class,
                 com.sun.ts.tests.jta.ee.transactional.TwoManagedQualifier.class, com.sun.ts.tests.jta.ee.transactional.TwoManagedBean.class,
                 com.sun.ts.tests.jta.ee.transactional.CTSRollbackException.class,
-                com.sun.ts.tests.jta.ee.transactional.TransactionScopedBean.class, com.sun.ts.tests.jta.ee.transactional.Helper.class,
+                com.sun.ts.tests.jta.ee.transactional.TransactionScopedBean.class,
+                com.sun.ts.tests.jta.ee.transactional.NonPassivatingTransactionScopedBean.class, com.sun.ts.tests.jta.ee.transactional.Helper.class,
                 com.sun.ts.tests.jta.ee.transactional.CTSDontRollbackException.class,
+                com.sun.ts.tests.jta.ee.transactional.CTSCheckedException.class,
                 com.sun.ts.tests.jta.ee.transactional.EJBLiteJSPTag.class, com.sun.ts.tests.jta.ee.transactional.OneManagedBean.class,
                 HttpServletDelegate.class, com.sun.ts.tests.jta.ee.transactional.Client.class, ClientEjblitejspTest.class);
         // The web.xml descriptor
@@ -456,6 +458,24 @@ public class ClientEjblitejspTest extends com.sun.ts.tests.jta.ee.transactional.
 
     }
 
+    /*
+     * @testName: rollbackPolicyMatchesAnnotation
+     *
+     * @test_Strategy: A TransactionalRollbackPolicy obtained from the Transactional annotation of a method must decide
+     * exceptions as the Transactional interceptor does: rollbackOn causes rollback for the designated checked exceptions,
+     * dontRollbackOn takes precedence over rollbackOn, also when it designates a superclass of a rollbackOn class, the
+     * designated behavior applies to subclasses as well, and otherwise RuntimeException and its subclasses cause rollback
+     * while checked exceptions do not.
+     *
+     */
+    @Test
+    @Override
+    @TargetVehicle("ejblitejsp")
+    public void rollbackPolicyMatchesAnnotation() throws Exception {
+        super.rollbackPolicyMatchesAnnotation();
+
+    }
+
     /*
      * @testName: transactionScopedBean_withoutTransaction
      *
@@ -503,6 +523,64 @@ public class ClientEjblitejspTest extends com.sun.ts.tests.jta.ee.transactional.
         super.transactionScopedBean_withTransaction();
     }
 
+    /*
+     * @testName: transactionScopedBean_suspendResume
+     *
+     * @test_Strategy:
+     *
+     * The object with the jakarta.transaction.TransactionScoped annotation will be associated with the current active JTA
+     * transaction when the object is used. This association must be retained through any transaction suspend or resume
+     * calls. The contextual references used across different JTA transactions are distinct.
+     *
+     * The transaction is suspended and resumed by the Transactional interceptor of a TxType.REQUIRES_NEW method, which
+     * uses the TransactionScopedBean in its own transaction.
+     */
+    @Test
+    @Override
+    @TargetVehicle("ejblitejsp")
+    public void transactionScopedBean_suspendResume() throws Exception {
+        super.transactionScopedBean_suspendResume();
+    }
+
+    /*
+     * @testName: nonPassivatingTransactionScopedBean_withoutTransaction
+     *
+     * @test_Strategy:
+     *
+     * The jakarta.transaction.NonPassivatingTransactionScoped annotation specifies a standard CDI scope that is not
+     * passivating and otherwise behaves as the scope defined by jakarta.transaction.TransactionScoped. The bean used by
+     * this test is not serializable.
+     *
+     * A jakarta.enterprise.context.ContextNotActiveException must be thrown if a bean with this annotation is used when the
+     * transaction context is not active.
+     */
+    @Test
+    @Override
+    @TargetVehicle("ejblitejsp")
+    public void nonPassivatingTransactionScopedBean_withoutTransaction() throws Exception {
+        super.nonPassivatingTransactionScopedBean_withoutTransaction();
+    }
+
+    /*
+     * @testName: nonPassivatingTransactionScopedBean_withTransaction
+     *
+     * @test_Strategy:
+     *
+     * The jakarta.transaction.NonPassivatingTransactionScoped annotation specifies a standard CDI scope that is not
+     * passivating and otherwise behaves as the scope defined by jakarta.transaction.TransactionScoped. The bean used by
+     * this test is not serializable.
+     *
+     * The scope is active in the same transaction states as the TransactionScoped scope, so both scopes can be used in
+     * the same transaction, each with its own contextual instances. A contextual instance is associated with the current
+     * transaction, and the contextual instances of different transactions are distinct.
+     */
+    @Test
+    @Override
+    @TargetVehicle("ejblitejsp")
+    public void nonPassivatingTransactionScopedBean_withTransaction() throws Exception {
+        super.nonPassivatingTransactionScopedBean_withTransaction();
+    }
+
     /*
      * @testName: getInterceptorPriorityForTxTypeRequired
      *
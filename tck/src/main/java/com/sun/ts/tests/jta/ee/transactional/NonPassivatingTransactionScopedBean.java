@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.ts.tests.jta.ee.transactional;
+
+import jakarta.transaction.NonPassivatingTransactionScoped;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bean with the non-passivating transaction scope. It is not serializable and holds state that is not serializable,
+ * which the container only accepts if the scope is not passivating.
+ */
+@NonPassivatingTransactionScoped
+public class NonPassivatingTransactionScopedBean {
+    private static final AtomicInteger instanceCount = new AtomicInteger();
+
+    private final int instanceId = instanceCount.incrementAndGet();
+
+    private final Thread owner = Thread.currentThread();
+
+    public NonPassivatingTransactionScopedBean() {
+
+    }
+
+    public int getInstanceId() {
+        return instanceId;
+    }
+
+    public String test() {
+        return "NonPassivatingTransactionScopedBean.test called with active transaction";
+    }
+
+}
@@ -45,6 +45,9 @@ public class OneManagedBean {
     @Inject
     BeanManager beanManager;
 
+    @Inject
+    TransactionScopedBean tscopedBean;
+
     private void setMyString(String s) {
         this.myString = s;
     }
@@ -158,6 +161,11 @@ public class OneManagedBean {
         return result;
     }
 
+    @Transactional(value = TxType.REQUIRES_NEW)
+    public int transactionScopedInstanceRequiresNew() {
+        return tscopedBean.getInstanceId();
+    }
+
     @Transactional(rollbackOn = { CTSRollbackException.class })
     public void rollbackOnException() throws CTSRollbackException {
         throw new CTSRollbackException("CTSRollbackException");
@@ -173,6 +181,16 @@ public class OneManagedBean {
         throw new CTSRollbackException("CTSRollbackException");
     }
 
+    @Transactional(rollbackOn = { CTSCheckedException.class })
+    public void rollbackOnCheckedException() throws CTSCheckedException {
+        throw new CTSCheckedException("CTSCheckedException");
+    }
+
+    @Transactional(rollbackOn = { CTSCheckedException.class }, dontRollbackOn = { Exception.class })
+    public void rollbackOnAndDontRollbackOnSuperclass() throws CTSCheckedException {
+        throw new CTSCheckedException("CTSCheckedException");
+    }
+
     public List<Integer> getPriority(String methodName) {
         int priorityValue = 0;
         List<Integer> priorityList = new ArrayList();
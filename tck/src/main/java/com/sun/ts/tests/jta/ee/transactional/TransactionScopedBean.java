@@ -20,13 +20,22 @@ import jakarta.enterprise.inject.spi.PassivationCapable;
 import jakarta.transaction.TransactionScoped;
 
 import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @TransactionScoped
 public class TransactionScopedBean implements PassivationCapable, Serializable {
+    private static final AtomicInteger instanceCount = new AtomicInteger();
+
+    private final int instanceId = instanceCount.incrementAndGet();
+
     public TransactionScopedBean() {
 
     }
 
+    public int getInstanceId() {
+        return instanceId;
+    }
+
     public String test() {
         return "TransactionScopedBean.test called with active transaction";
     }